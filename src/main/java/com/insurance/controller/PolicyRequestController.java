@@ -1,8 +1,15 @@
 package com.insurance.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurance.dto.PolicyRequestBatchResultDTO;
+import com.insurance.dto.PolicyRequestCursor;
 import com.insurance.dto.PolicyRequestDTO;
+import com.insurance.dto.PolicyRequestImportResultDTO;
+import com.insurance.dto.PolicyRequestPageDTO;
 import com.insurance.mapper.PolicyRequestMapper;
 import com.insurance.domain.PolicyRequest;
+import com.insurance.service.PolicyRequestBatchService;
+import com.insurance.service.PolicyRequestImportService;
 import com.insurance.service.PolicyRequestService;
 import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
@@ -10,9 +17,11 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,9 +29,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -35,6 +49,9 @@ public class PolicyRequestController {
     private static final Logger log = LoggerFactory.getLogger(PolicyRequestController.class);
     private final PolicyRequestService service;
     private final PolicyRequestMapper mapper;
+    private final PolicyRequestBatchService batchService;
+    private final PolicyRequestImportService importService;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -46,12 +63,26 @@ public class PolicyRequestController {
         return mapper.toDTO(created);
     }
 
+    @PostMapping("/batch")
+    @Timed(value = "policy.request.create.batch", description = "Time taken to create a batch of policy requests")
+    public List<PolicyRequestBatchResultDTO> createPolicyRequests(@RequestBody List<PolicyRequestDTO> requests) {
+        log.info("Creating batch of {} policy requests", requests.size());
+        return batchService.createBatch(requests);
+    }
+
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    @Timed(value = "policy.request.import", description = "Time taken to import an NDJSON stream of policy requests")
+    public PolicyRequestImportResultDTO importPolicyRequests(InputStream body) throws IOException {
+        log.info("Importing NDJSON stream of policy requests");
+        return importService.importNdjson(body);
+    }
+
     @GetMapping("/{id}")
     @Timed(value = "policy.request.get", description = "Time taken to get a policy request")
     public PolicyRequestDTO getPolicyRequest(@PathVariable UUID id) {
         log.info("Getting policy request: {}", id);
         try {
-            PolicyRequest entity = service.findById(id);
+            PolicyRequest entity = service.findWithHistoryById(id);
             return mapper.toDTO(entity);
         } catch (EntityNotFoundException e) {
             throw new EntityNotFoundException("Policy request not found with id: " + id);
@@ -67,6 +98,43 @@ public class PolicyRequestController {
                 .collect(Collectors.toList());
     }
 
+    @GetMapping("/customer/{customerId}/page")
+    @Timed(value = "policy.request.get.by.customer.page", description = "Time taken to get a page of policy requests by customer")
+    public PolicyRequestPageDTO getPolicyRequestPageByCustomer(@PathVariable UUID customerId,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(defaultValue = "50") int size) {
+        log.info("Getting policy request page for customer: {}", customerId);
+        PolicyRequestCursor after = cursor == null || cursor.isBlank() ? null : PolicyRequestCursor.decode(cursor);
+        Slice<PolicyRequest> page = service.findPageByCustomerId(customerId, after, size);
+
+        PolicyRequestPageDTO dto = new PolicyRequestPageDTO();
+        dto.setItems(page.getContent().stream()
+                .map(mapper::toDTO)
+                .collect(Collectors.toList()));
+        if (page.hasNext()) {
+            List<PolicyRequest> content = page.getContent();
+            dto.setNextCursor(PolicyRequestCursor.after(content.get(content.size() - 1)).encode());
+        }
+        return dto;
+    }
+
+    @GetMapping(value = "/customer/{customerId}/stream", produces = "application/x-ndjson")
+    @Timed(value = "policy.request.stream.by.customer", description = "Time taken to open a stream of policy requests by customer")
+    public ResponseEntity<StreamingResponseBody> streamPolicyRequestsByCustomer(@PathVariable UUID customerId) {
+        log.info("Streaming policy requests for customer: {}", customerId);
+        StreamingResponseBody body = out -> service.streamByCustomerId(customerId, request -> {
+            try {
+                out.write(objectMapper.writeValueAsBytes(mapper.toDTO(request)));
+                out.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
     @PostMapping("/{id}/validate")
     public ResponseEntity<Void> validate(@PathVariable UUID id) {
         service.validatePolicyRequest(id);
@@ -118,6 +186,32 @@ public class PolicyRequestController {
             .body(problem);
     }
 
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ProblemDetail> handleConcurrentUpdate(OptimisticLockingFailureException ex) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+            HttpStatus.CONFLICT,
+            "Policy request was changed concurrently, reload it and try again"
+        );
+        problem.setTitle("Concurrent Update");
+        return ResponseEntity
+            .status(HttpStatus.CONFLICT)
+            .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+            .body(problem);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ProblemDetail> handleIllegalArgument(IllegalArgumentException ex) {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(
+            HttpStatus.BAD_REQUEST,
+            ex.getMessage()
+        );
+        problem.setTitle("Invalid Request");
+        return ResponseEntity
+            .status(HttpStatus.BAD_REQUEST)
+            .contentType(MediaType.APPLICATION_PROBLEM_JSON)
+            .body(problem);
+    }
+
     @ExceptionHandler(EntityNotFoundException.class)
     public ResponseEntity<ProblemDetail> handleEntityNotFound(EntityNotFoundException ex) {
         ProblemDetail problem = ProblemDetail.forStatusAndDetail(
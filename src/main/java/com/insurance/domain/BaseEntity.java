@@ -1,5 +1,6 @@
 package com.insurance.domain;
 
+import com.insurance.infrastructure.persistence.id.TimeOrderedUuid;
 import jakarta.persistence.*;
 import lombok.Data;
 import org.springframework.data.annotation.CreatedDate;
@@ -15,7 +16,7 @@ import java.util.UUID;
 public abstract class BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @TimeOrderedUuid
     private UUID id;
 
     @CreatedDate
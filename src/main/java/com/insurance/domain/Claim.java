@@ -1,6 +1,7 @@
 package com.insurance.domain;
 
 import com.insurance.domain.enums.ClaimStatus;
+import com.insurance.domain.statemachine.StatusTransitions;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
@@ -103,28 +104,12 @@ public class Claim extends BaseEntity {
         if (newStatus == null) {
             throw new IllegalArgumentException("status cannot be null");
         }
-        if (this.status != null && !isValidStatusTransition(this.status, newStatus)) {
+        if (this.status != null && !StatusTransitions.CLAIM.canTransition(this.status, newStatus)) {
             throw new IllegalStateException("Invalid status transition from " + this.status + " to " + newStatus);
         }
         this.status = newStatus;
     }
 
-    private boolean isValidStatusTransition(ClaimStatus from, ClaimStatus to) {
-        switch (from) {
-            case SUBMITTED:
-                return to == ClaimStatus.UNDER_REVIEW || to == ClaimStatus.REJECTED;
-            case UNDER_REVIEW:
-                return to == ClaimStatus.APPROVED || to == ClaimStatus.REJECTED;
-            case APPROVED:
-                return to == ClaimStatus.PAID;
-            case PAID:
-            case REJECTED:
-                return false; // Estados finais
-            default:
-                return false;
-        }
-    }
-
     public void validate() {
         if (claimNumber == null || claimNumber.trim().isEmpty()) {
             throw new IllegalArgumentException("claimNumber is required");
@@ -0,0 +1,52 @@
+package com.insurance.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Data;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * A claimed idempotency key. The id is derived from the key and its scope, so claiming is a
+ * plain insert that fails on the primary key when the key is already taken. Once the request
+ * completes the row also holds the response to replay until {@code expiresAt}. The request digest
+ * is the SHA-256 of the body that claimed the key.
+ */
+@Entity
+@Table(name = "idempotency_keys", indexes = {
+    @Index(name = "idx_idempotency_keys_expires_at", columnList = "expires_at")
+})
+@Data
+public class IdempotencyRecord implements Persistable<UUID> {
+
+    @Id
+    private UUID id;
+
+    @Column(nullable = false)
+    private boolean completed;
+
+    @Column(name = "request_digest", length = 32)
+    private byte[] requestDigest;
+
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Column(name = "response_body", length = 1048576)
+    private byte[] responseBody;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // Rows are only ever inserted through save(); updates and deletes go through queries
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
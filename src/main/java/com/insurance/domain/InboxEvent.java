@@ -0,0 +1,44 @@
+package com.insurance.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Data;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * An event a consumer has already handled. The id combines the event id with the consumer name
+ * (see {@code EventInbox#inboxKey}), so one event can be recorded once per consumer.
+ */
+@Entity
+@Table(name = "event_inbox", indexes = {
+    @Index(name = "idx_event_inbox_processed_at", columnList = "processed_at")
+})
+@Data
+public class InboxEvent implements Persistable<UUID> {
+
+    @Id
+    private UUID id;
+
+    @Column(name = "event_id", nullable = false)
+    private UUID eventId;
+
+    @Column(nullable = false)
+    private String consumer;
+
+    @Column(name = "event_type")
+    private String eventType;
+
+    @Column(name = "processed_at", nullable = false)
+    private LocalDateTime processedAt;
+
+    // Rows are only ever inserted; compaction deletes them with a query
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -0,0 +1,131 @@
+package com.insurance.domain;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import java.util.Objects;
+
+/**
+ * Monetary amount held as a {@code long} count of the currency's minor units (cents for BRL).
+ * Used for limit checks and sums on hot paths; {@link BigDecimal} stays at the persistence and
+ * JSON edges and is converted with {@link #of(BigDecimal)} and {@link #toBigDecimal()}.
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final Currency DEFAULT_CURRENCY = Currency.getInstance("BRL");
+
+    private static final Money ZERO = new Money(0L, DEFAULT_CURRENCY);
+
+    private final long minorUnits;
+    private final Currency currency;
+
+    private Money(long minorUnits, Currency currency) {
+        this.minorUnits = minorUnits;
+        this.currency = currency;
+    }
+
+    public static Money zero() {
+        return ZERO;
+    }
+
+    public static Money zero(Currency currency) {
+        return currency.equals(DEFAULT_CURRENCY) ? ZERO : new Money(0L, currency);
+    }
+
+    public static Money ofMinor(long minorUnits, Currency currency) {
+        return new Money(minorUnits, Objects.requireNonNull(currency, "currency"));
+    }
+
+    public static Money of(BigDecimal amount) {
+        return of(amount, DEFAULT_CURRENCY);
+    }
+
+    /**
+     * Converts an exact amount. Fails when it has more decimal places than the currency allows.
+     */
+    public static Money of(BigDecimal amount, Currency currency) {
+        return of(amount, currency, RoundingMode.UNNECESSARY);
+    }
+
+    public static Money of(BigDecimal amount, Currency currency, RoundingMode rounding) {
+        Objects.requireNonNull(amount, "amount");
+        Objects.requireNonNull(currency, "currency");
+        try {
+            long minorUnits = amount.setScale(currency.getDefaultFractionDigits(), rounding)
+                                    .unscaledValue()
+                                    .longValueExact();
+            return new Money(minorUnits, currency);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Amount " + amount.toPlainString()
+                + " cannot be represented in " + currency.getCurrencyCode() + " minor units", e);
+        }
+    }
+
+    public Money plus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.addExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public Money minus(Money other) {
+        requireSameCurrency(other);
+        return new Money(Math.subtractExact(minorUnits, other.minorUnits), currency);
+    }
+
+    public int signum() {
+        return Long.signum(minorUnits);
+    }
+
+    public boolean isPositive() {
+        return minorUnits > 0;
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return compareTo(other) > 0;
+    }
+
+    public long getMinorUnits() {
+        return minorUnits;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(minorUnits, currency.getDefaultFractionDigits());
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        requireSameCurrency(other);
+        return Long.compare(minorUnits, other.minorUnits);
+    }
+
+    private void requireSameCurrency(Money other) {
+        if (!currency.equals(other.currency)) {
+            throw new IllegalArgumentException("Currency mismatch: " + currency.getCurrencyCode()
+                + " and " + other.currency.getCurrencyCode());
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Money other)) {
+            return false;
+        }
+        return minorUnits == other.minorUnits && currency.equals(other.currency);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(minorUnits, currency);
+    }
+
+    @Override
+    public String toString() {
+        return currency.getCurrencyCode() + " " + toBigDecimal().toPlainString();
+    }
+}
@@ -0,0 +1,53 @@
+package com.insurance.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+@Entity
+@Table(name = "outbox_events")
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class OutboxEvent extends BaseEntity {
+
+    @Column(nullable = false)
+    private String exchange;
+
+    @Column(name = "routing_key", nullable = false)
+    private String routingKey;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(nullable = false, length = 4000)
+    private String payload;
+
+    /**
+     * Pipeline shard stamped on the message by the relay; null when sharding was off at write time.
+     */
+    @Column
+    private Integer shard;
+
+    public void setExchange(String exchange) {
+        if (exchange == null || exchange.trim().isEmpty()) {
+            throw new IllegalArgumentException("exchange cannot be empty");
+        }
+        this.exchange = exchange;
+    }
+
+    public void setRoutingKey(String routingKey) {
+        if (routingKey == null || routingKey.trim().isEmpty()) {
+            throw new IllegalArgumentException("routingKey cannot be empty");
+        }
+        this.routingKey = routingKey;
+    }
+
+    public void setPayload(String payload) {
+        if (payload == null || payload.isEmpty()) {
+            throw new IllegalArgumentException("payload cannot be empty");
+        }
+        this.payload = payload;
+    }
+}
@@ -4,31 +4,38 @@ import com.insurance.domain.enums.InsuranceCategory;
 import com.insurance.domain.enums.PaymentMethod;
 import com.insurance.domain.enums.PolicyRequestStatus;
 import com.insurance.domain.enums.SalesChannel;
+import com.insurance.domain.statemachine.StatusTransitions;
 import jakarta.persistence.CascadeType;
-import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
-import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.MapKeyColumn;
-import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
-import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 @Entity
-@Table(name = "policy_requests")
+@Table(name = "policy_requests", indexes = {
+    @Index(name = "idx_policy_requests_customer_created", columnList = "customer_id, created_at, id")
+})
 @Data
 @EqualsAndHashCode(callSuper = true)
 public class PolicyRequest extends BaseEntity {
@@ -61,22 +68,23 @@ public class PolicyRequest extends BaseEntity {
     @Column(name = "insured_amount", nullable = false)
     private BigDecimal insuredAmount;
 
-    @ElementCollection
-    @CollectionTable(name = "policy_request_coverages", 
-                    joinColumns = @JoinColumn(name = "policy_request_id"))
-    @MapKeyColumn(name = "coverage_name")
-    @Column(name = "coverage_amount")
+    // Minor-unit form of insuredAmount for the underwriting check, converted once per instance
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private transient Money insured;
+
+    // Stored inline as JSON (jsonb on Postgres) so a request is written and read as a single row
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "coverages")
     private Map<String, BigDecimal> coverages = new HashMap<>();
 
-    @ElementCollection
-    @CollectionTable(name = "policy_request_assistances", 
-                    joinColumns = @JoinColumn(name = "policy_request_id"))
-    @Column(name = "assistance_name")
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "assistances")
     private List<String> assistances = new ArrayList<>();
 
-    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true)
-    @JoinColumn(name = "policy_request_id")
-    @OrderBy("changedAt DESC")
+    // status_history is append-only and written on its own; this holds the entries recorded in
+    // the current unit of work, or the bounded history attached by the read paths
+    @Transient
     private List<StatusHistory> statusHistory = new ArrayList<>();
 
     @OneToOne(cascade = CascadeType.ALL)
@@ -86,6 +94,12 @@ public class PolicyRequest extends BaseEntity {
     @Column(name = "finished_at")
     private LocalDateTime finishedAt;
 
+    // Transitions are applied to the managed instance and flushed by dirty checking; the version
+    // check stops two consumers from moving the same request from the same starting status
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     public void validate() {
         if (customerId == null) {
             throw new IllegalArgumentException("customerId is required");
@@ -102,10 +116,10 @@ public class PolicyRequest extends BaseEntity {
         if (paymentMethod == null) {
             throw new IllegalArgumentException("paymentMethod is required");
         }
-        if (totalMonthlyPremiumAmount == null || totalMonthlyPremiumAmount.compareTo(BigDecimal.ZERO) <= 0) {
+        if (totalMonthlyPremiumAmount == null || totalMonthlyPremiumAmount.signum() <= 0) {
             throw new IllegalArgumentException("totalMonthlyPremiumAmount must be greater than zero");
         }
-        if (insuredAmount == null || insuredAmount.compareTo(BigDecimal.ZERO) <= 0) {
+        if (insuredAmount == null || insuredAmount.signum() <= 0) {
             throw new IllegalArgumentException("insuredAmount must be greater than zero");
         }
         if (coverages.isEmpty()) {
@@ -113,7 +127,14 @@ public class PolicyRequest extends BaseEntity {
         }
     }
 
-    public void updateStatus(PolicyRequestStatus newStatus) {
+    public StatusHistory updateStatus(PolicyRequestStatus newStatus) {
+        return updateStatus(newStatus, null);
+    }
+
+    /**
+     * Applies the transition and returns the history entry for it, which the caller persists.
+     */
+    public StatusHistory updateStatus(PolicyRequestStatus newStatus, String reason) {
         if (newStatus == null) {
             throw new IllegalArgumentException("New status cannot be null");
         }
@@ -127,15 +148,15 @@ public class PolicyRequest extends BaseEntity {
         history.setPreviousStatus(this.status);
         history.setNewStatus(newStatus);
         history.setChangedAt(LocalDateTime.now());
+        history.setReason(reason);
         
         this.statusHistory.add(history);
         this.status = newStatus;
 
-        if (newStatus == PolicyRequestStatus.APPROVED || 
-            newStatus == PolicyRequestStatus.REJECTED || 
-            newStatus == PolicyRequestStatus.CANCELLED) {
+        if (StatusTransitions.POLICY_REQUEST.isTerminal(newStatus)) {
             this.finishedAt = LocalDateTime.now();
         }
+        return history;
     }
 
     public boolean canTransitionTo(PolicyRequestStatus newStatus) {
@@ -143,38 +164,54 @@ public class PolicyRequest extends BaseEntity {
             return newStatus == PolicyRequestStatus.RECEIVED;
         }
 
-        return switch (this.status) {
-            case RECEIVED -> newStatus == PolicyRequestStatus.VALIDATED || 
-                           newStatus == PolicyRequestStatus.REJECTED ||
-                           newStatus == PolicyRequestStatus.CANCELLED;
-            case VALIDATED -> newStatus == PolicyRequestStatus.PENDING || 
-                            newStatus == PolicyRequestStatus.REJECTED ||
-                            newStatus == PolicyRequestStatus.CANCELLED;
-            case PENDING -> newStatus == PolicyRequestStatus.APPROVED || 
-                          newStatus == PolicyRequestStatus.REJECTED ||
-                          newStatus == PolicyRequestStatus.CANCELLED;
-            case APPROVED -> false; // Não pode mudar após aprovado
-            case REJECTED, CANCELLED -> false; // Estados finais
-        };
+        return StatusTransitions.POLICY_REQUEST.canTransition(this.status, newStatus);
     }
 
+    /**
+     * Total at the currency's scale (two decimals for BRL), or zero without coverages.
+     */
     public BigDecimal calculateTotalCoverageAmount() {
-        return coverages.values()
-                       .stream()
-                       .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return coverages.isEmpty() ? BigDecimal.ZERO : totalCoverage().toBigDecimal();
+    }
+
+    /**
+     * Sum of all coverages, accumulated in minor units. Coverage amounts are limited to whole
+     * cents by {@code PolicyRequestDTO}; a finer amount fails with IllegalArgumentException
+     * instead of being rounded.
+     */
+    public Money totalCoverage() {
+        long total = 0L;
+        for (BigDecimal amount : coverages.values()) {
+            total = Math.addExact(total, Money.of(amount).getMinorUnits());
+        }
+        return Money.ofMinor(total, Money.DEFAULT_CURRENCY);
     }
 
     public void setTotalMonthlyPremiumAmount(BigDecimal totalMonthlyPremiumAmount) {
-        if (totalMonthlyPremiumAmount == null || totalMonthlyPremiumAmount.compareTo(BigDecimal.ZERO) <= 0) {
+        if (totalMonthlyPremiumAmount == null || totalMonthlyPremiumAmount.signum() <= 0) {
             throw new IllegalArgumentException("totalMonthlyPremiumAmount must be greater than zero");
         }
         this.totalMonthlyPremiumAmount = totalMonthlyPremiumAmount;
     }
 
     public void setInsuredAmount(BigDecimal insuredAmount) {
-        if (insuredAmount == null || insuredAmount.compareTo(BigDecimal.ZERO) <= 0) {
+        if (insuredAmount == null || insuredAmount.signum() <= 0) {
             throw new IllegalArgumentException("insuredAmount must be greater than zero");
         }
         this.insuredAmount = insuredAmount;
+        this.insured = null;
+    }
+
+    /**
+     * Insured amount as {@link Money}. Amounts finer than a cent are rounded up so they never
+     * slip under an underwriting limit.
+     */
+    public Money insured() {
+        Money current = insured;
+        if (current == null) {
+            current = Money.of(insuredAmount, Money.DEFAULT_CURRENCY, RoundingMode.CEILING);
+            insured = current;
+        }
+        return current;
     }
 } 
\ No newline at end of file
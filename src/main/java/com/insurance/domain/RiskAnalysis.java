@@ -14,6 +14,7 @@ import java.util.ArrayList;
 import java.util.List;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.ColumnDefault;
 
 @Entity
 @Table(name = "risk_analysis")
@@ -32,6 +33,13 @@ public class RiskAnalysis extends BaseEntity {
     @JoinColumn(name = "risk_analysis_id")
     private List<RiskOccurrence> occurrences = new ArrayList<>();
 
+    /**
+     * Scored locally while the fraud provider was unavailable; should be re-scored by the provider.
+     */
+    @Column(nullable = false)
+    @ColumnDefault("false")
+    private boolean provisional;
+
     public void validate() {
         if (classification == null) {
             throw new IllegalArgumentException("classification is required");
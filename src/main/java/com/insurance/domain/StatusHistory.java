@@ -1,19 +1,29 @@
 package com.insurance.domain;
 
 import com.insurance.domain.enums.PolicyRequestStatus;
+import com.insurance.domain.statemachine.StatusTransitions;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import org.hibernate.annotations.Immutable;
 
+/**
+ * One status transition of a policy request. Rows are insert-only; on Postgres the table is
+ * range-partitioned by {@code changed_at} month (see db/migration/status_history_partitioning.sql).
+ */
 @Entity
-@Table(name = "status_history")
+@Immutable
+@Table(name = "status_history", indexes = {
+    @Index(name = "idx_status_history_request_changed", columnList = "policy_request_id, changed_at")
+})
 @Data
 @EqualsAndHashCode(callSuper = true)
 public class StatusHistory extends BaseEntity {
@@ -55,36 +65,12 @@ public class StatusHistory extends BaseEntity {
         if (this.previousStatus != null && newStatus == this.previousStatus) {
             throw new IllegalArgumentException("newStatus cannot be the same as previousStatus");
         }
-        if (this.previousStatus != null && !isValidStatusTransition(this.previousStatus, newStatus)) {
+        if (this.previousStatus != null && !StatusTransitions.POLICY_REQUEST.canTransition(this.previousStatus, newStatus)) {
             throw new IllegalStateException("Invalid status transition from " + this.previousStatus + " to " + newStatus);
         }
         this.newStatus = newStatus;
     }
 
-    private boolean isValidStatusTransition(PolicyRequestStatus from, PolicyRequestStatus to) {
-        switch (from) {
-            case RECEIVED:
-                return to == PolicyRequestStatus.VALIDATED || 
-                       to == PolicyRequestStatus.REJECTED ||
-                       to == PolicyRequestStatus.CANCELLED;
-            case VALIDATED:
-                return to == PolicyRequestStatus.PENDING || 
-                       to == PolicyRequestStatus.REJECTED ||
-                       to == PolicyRequestStatus.CANCELLED;
-            case PENDING:
-                return to == PolicyRequestStatus.APPROVED || 
-                       to == PolicyRequestStatus.REJECTED ||
-                       to == PolicyRequestStatus.CANCELLED;
-            case APPROVED:
-                return false; // Não pode mudar após aprovado
-            case REJECTED:
-            case CANCELLED:
-                return false; // Estados finais
-            default:
-                return false;
-        }
-    }
-
     public void validate() {
         if (policyRequestId == null) {
             throw new IllegalArgumentException("policyRequestId is required");
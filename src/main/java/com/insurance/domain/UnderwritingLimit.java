@@ -0,0 +1,55 @@
+package com.insurance.domain;
+
+import com.insurance.domain.enums.CustomerRiskType;
+import com.insurance.domain.enums.InsuranceCategory;
+import com.insurance.domain.enums.SalesChannel;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * Maximum insured amount for a risk classification, optionally narrowed to a category and/or
+ * sales channel. A null category or channel matches any value.
+ */
+@Entity
+@Table(name = "underwriting_limits")
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class UnderwritingLimit extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "risk_type", nullable = false)
+    private CustomerRiskType riskType;
+
+    @Enumerated(EnumType.STRING)
+    private InsuranceCategory category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "sales_channel")
+    private SalesChannel salesChannel;
+
+    @Column(name = "max_insured_amount", nullable = false, precision = 19, scale = 2)
+    private BigDecimal maxInsuredAmount;
+
+    @Column(nullable = false)
+    private boolean active = true;
+
+    public void setRiskType(CustomerRiskType riskType) {
+        if (riskType == null) {
+            throw new IllegalArgumentException("riskType cannot be null");
+        }
+        this.riskType = riskType;
+    }
+
+    public void setMaxInsuredAmount(BigDecimal maxInsuredAmount) {
+        if (maxInsuredAmount == null || maxInsuredAmount.signum() <= 0) {
+            throw new IllegalArgumentException("maxInsuredAmount must be greater than zero");
+        }
+        this.maxInsuredAmount = maxInsuredAmount;
+    }
+}
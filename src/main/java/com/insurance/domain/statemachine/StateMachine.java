@@ -0,0 +1,75 @@
+package com.insurance.domain.statemachine;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Immutable transition table for an enum-based status. Each state's allowed targets are kept
+ * as a bitmask indexed by ordinal, so a transition check is a single array read and bit test.
+ *
+ * @param <S> the status enum; it may declare at most 64 constants
+ */
+public final class StateMachine<S extends Enum<S>> {
+
+    private final Class<S> type;
+    private final long[] transitions;
+
+    private StateMachine(Class<S> type, long[] transitions) {
+        this.type = type;
+        this.transitions = transitions;
+    }
+
+    public static <S extends Enum<S>> Builder<S> builder(Class<S> type) {
+        return new Builder<>(type);
+    }
+
+    public boolean canTransition(S from, S to) {
+        return (transitions[from.ordinal()] & (1L << to.ordinal())) != 0;
+    }
+
+    /**
+     * A state is terminal when no transition leaves it.
+     */
+    public boolean isTerminal(S state) {
+        return transitions[state.ordinal()] == 0;
+    }
+
+    public Set<S> allowedTransitions(S from) {
+        EnumSet<S> targets = EnumSet.noneOf(type);
+        for (S candidate : type.getEnumConstants()) {
+            if (canTransition(from, candidate)) {
+                targets.add(candidate);
+            }
+        }
+        return targets;
+    }
+
+    public static final class Builder<S extends Enum<S>> {
+
+        private final Class<S> type;
+        private final long[] transitions;
+
+        private Builder(Class<S> type) {
+            if (type.getEnumConstants().length > Long.SIZE) {
+                throw new IllegalArgumentException(type.getSimpleName() + " has more than 64 states");
+            }
+            this.type = type;
+            this.transitions = new long[type.getEnumConstants().length];
+        }
+
+        @SafeVarargs
+        public final Builder<S> allow(S from, S... targets) {
+            for (S target : targets) {
+                if (target == from) {
+                    throw new IllegalArgumentException("Self transition not allowed for " + from);
+                }
+                transitions[from.ordinal()] |= 1L << target.ordinal();
+            }
+            return this;
+        }
+
+        public StateMachine<S> build() {
+            return new StateMachine<>(type, transitions.clone());
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.insurance.domain.statemachine;
+
+import com.insurance.domain.enums.ClaimStatus;
+import com.insurance.domain.enums.PolicyRequestStatus;
+
+/**
+ * The status state machines shared by the domain entities. Built once at class load.
+ */
+public final class StatusTransitions {
+
+    public static final StateMachine<PolicyRequestStatus> POLICY_REQUEST = StateMachine
+        .builder(PolicyRequestStatus.class)
+        .allow(PolicyRequestStatus.RECEIVED,
+               PolicyRequestStatus.VALIDATED, PolicyRequestStatus.REJECTED, PolicyRequestStatus.CANCELLED)
+        .allow(PolicyRequestStatus.VALIDATED,
+               PolicyRequestStatus.PENDING, PolicyRequestStatus.REJECTED, PolicyRequestStatus.CANCELLED)
+        .allow(PolicyRequestStatus.PENDING,
+               PolicyRequestStatus.APPROVED, PolicyRequestStatus.REJECTED, PolicyRequestStatus.CANCELLED)
+        .build();
+
+    public static final StateMachine<ClaimStatus> CLAIM = StateMachine
+        .builder(ClaimStatus.class)
+        .allow(ClaimStatus.SUBMITTED, ClaimStatus.UNDER_REVIEW, ClaimStatus.REJECTED)
+        .allow(ClaimStatus.UNDER_REVIEW, ClaimStatus.APPROVED, ClaimStatus.REJECTED)
+        .allow(ClaimStatus.APPROVED, ClaimStatus.PAID)
+        .build();
+
+    private StatusTransitions() {
+    }
+}
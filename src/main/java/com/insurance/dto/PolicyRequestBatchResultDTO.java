@@ -0,0 +1,14 @@
+package com.insurance.dto;
+
+import lombok.Data;
+
+@Data
+public class PolicyRequestBatchResultDTO {
+    private int index;
+    private PolicyRequestDTO policyRequest;
+    private String error;
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
@@ -0,0 +1,40 @@
+package com.insurance.dto;
+
+import com.insurance.domain.PolicyRequest;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in a customer's policy request listing, ordered by {@code createdAt, id}.
+ * Clients receive it as an opaque URL-safe token.
+ */
+public record PolicyRequestCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static PolicyRequestCursor after(PolicyRequest request) {
+        return new PolicyRequestCursor(request.getCreatedAt(), request.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PolicyRequestCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Invalid cursor: " + token);
+            }
+            return new PolicyRequestCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                                           UUID.fromString(raw.substring(separator + 1)));
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + token, e);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.insurance.domain.enums.InsuranceCategory;
 import com.insurance.domain.enums.PaymentMethod;
 import com.insurance.domain.enums.PolicyRequestStatus;
 import com.insurance.domain.enums.SalesChannel;
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import java.math.BigDecimal;
@@ -44,10 +45,13 @@ public class PolicyRequestDTO {
     
     @NotNull(message = "Insured amount is required")
     @Positive(message = "Insured amount must be positive")
+    @Digits(integer = 15, fraction = 2, message = "Insured amount must have at most 2 decimal places")
     private BigDecimal insuredAmount;
     
+    // Amounts are summed in minor units, so anything finer than a cent is rejected here
     @NotNull(message = "Coverages are required")
-    private Map<String, BigDecimal> coverages = new HashMap<>();
+    private Map<String, @NotNull @Digits(integer = 15, fraction = 2,
+        message = "Coverage amounts must have at most 2 decimal places") BigDecimal> coverages = new HashMap<>();
     
     private List<String> assistances = new ArrayList<>();
     private List<StatusHistoryDTO> history;
@@ -0,0 +1,13 @@
+package com.insurance.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class PolicyRequestImportResultDTO {
+    private long received;
+    private long imported;
+    private long failed;
+    private List<String> errors = new ArrayList<>();
+}
@@ -0,0 +1,11 @@
+package com.insurance.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+
+@Data
+public class PolicyRequestPageDTO {
+    private List<PolicyRequestDTO> items = new ArrayList<>();
+    private String nextCursor;
+}
@@ -1,6 +1,7 @@
 package com.insurance.event;
 
 import com.insurance.domain.enums.PolicyRequestStatus;
+import com.insurance.infrastructure.persistence.id.TimeOrderedUuidGenerator;
 import java.time.LocalDateTime;
 import java.util.UUID;
 import lombok.Getter;
@@ -9,6 +10,8 @@ import lombok.RequiredArgsConstructor;
 @Getter
 @RequiredArgsConstructor
 public abstract class PolicyRequestEvent {
+    // Assigned once and carried in the payload, so outbox retries and broker redeliveries share it
+    private final UUID eventId = TimeOrderedUuidGenerator.instance().next();
     private final UUID policyRequestId;
     private final UUID customerId;
     private final PolicyRequestStatus status;
@@ -0,0 +1,52 @@
+package com.insurance.infrastructure.batch;
+
+import com.insurance.dto.PolicyRequestImportResultDTO;
+import com.insurance.service.PolicyRequestImportService;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Component;
+
+/**
+ * Batch mode: {@code --policy.import.file=/path/requests.jsonl} replays an NDJSON file on startup.
+ */
+@Component
+@ConditionalOnProperty(name = "policy.import.file")
+@RequiredArgsConstructor
+@Slf4j
+public class PolicyRequestImportRunner implements ApplicationRunner {
+
+    private final PolicyRequestImportService importService;
+    private final ApplicationContext context;
+
+    @Value("${policy.import.file}")
+    private String importFile;
+
+    @Value("${policy.import.exit-on-completion:true}")
+    private boolean exitOnCompletion;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Path path = Path.of(importFile);
+        log.info("Importing policy requests from {}", path);
+
+        PolicyRequestImportResultDTO result;
+        try (InputStream input = Files.newInputStream(path)) {
+            result = importService.importNdjson(input);
+        }
+        result.getErrors().forEach(error -> log.warn("Import error: {}", error));
+
+        if (exitOnCompletion) {
+            int exitCode = SpringApplication.exit(context, () -> result.getFailed() == 0 ? 0 : 1);
+            System.exit(exitCode);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.insurance.infrastructure.client;
+
+import com.insurance.infrastructure.client.FraudAnalysisClient.FraudAnalysisRequest;
+import com.insurance.infrastructure.client.dto.FraudAnalysisResponse;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Groups fraud lookups submitted within a short window into a single call to the provider's
+ * batch endpoint. A batch is sent when it reaches {@code fraud.batch.max-size} or when
+ * {@code fraud.batch.window-ms} has elapsed since its first item. Items that are missing
+ * from the batch response, or belong to a batch call that failed, are retried individually.
+ * The dispatch threads are only started by the first submission, so the bean costs nothing
+ * while {@code fraud.batch.enabled} is off.
+ */
+@Component
+@Slf4j
+public class FraudAnalysisBatcher {
+
+    private final FraudAnalysisClient fraudAnalysisClient;
+    private final int maxBatchSize;
+    private final long windowMs;
+    private final int dispatchThreads;
+    private final Object lock = new Object();
+
+    private ScheduledExecutorService scheduler;
+    private List<PendingAnalysis> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    public FraudAnalysisBatcher(FraudAnalysisClient fraudAnalysisClient,
+                                @Value("${fraud.batch.max-size:50}") int maxBatchSize,
+                                @Value("${fraud.batch.window-ms:20}") long windowMs,
+                                @Value("${fraud.batch.dispatch-threads:4}") int dispatchThreads) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("fraud.batch.max-size must be at least 1");
+        }
+        this.fraudAnalysisClient = fraudAnalysisClient;
+        this.maxBatchSize = maxBatchSize;
+        this.windowMs = windowMs;
+        this.dispatchThreads = dispatchThreads;
+    }
+
+    public CompletableFuture<FraudAnalysisResponse> submit(UUID orderId, UUID customerId) {
+        PendingAnalysis item = new PendingAnalysis(new FraudAnalysisRequest(orderId, customerId),
+            new CompletableFuture<>());
+        List<PendingAnalysis> ready = null;
+        ScheduledExecutorService executor;
+
+        synchronized (lock) {
+            if (scheduler == null) {
+                scheduler = Executors.newScheduledThreadPool(dispatchThreads);
+            }
+            executor = scheduler;
+            pending.add(item);
+            if (pending.size() >= maxBatchSize) {
+                ready = drain();
+            } else if (scheduledFlush == null) {
+                scheduledFlush = scheduler.schedule(this::flush, windowMs, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (ready != null) {
+            List<PendingAnalysis> batch = ready;
+            executor.execute(() -> dispatch(batch));
+        }
+        return item.result();
+    }
+
+    void flush() {
+        List<PendingAnalysis> ready;
+        synchronized (lock) {
+            ready = drain();
+        }
+        if (!ready.isEmpty()) {
+            dispatch(ready);
+        }
+    }
+
+    private List<PendingAnalysis> drain() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        List<PendingAnalysis> ready = pending;
+        pending = new ArrayList<>();
+        return ready;
+    }
+
+    void dispatch(List<PendingAnalysis> batch) {
+        Map<UUID, FraudAnalysisResponse> byOrderId;
+        try {
+            byOrderId = fraudAnalysisClient.analyzeFraudBatch(batch.stream().map(PendingAnalysis::request).toList())
+                .stream()
+                .filter(response -> response != null && response.getOrderId() != null)
+                .collect(Collectors.toMap(FraudAnalysisResponse::getOrderId, Function.identity(), (a, b) -> a));
+        } catch (RuntimeException e) {
+            log.warn("Fraud analysis batch of {} failed, falling back to single calls: {}", batch.size(), e.getMessage());
+            byOrderId = Map.of();
+        }
+
+        for (PendingAnalysis item : batch) {
+            FraudAnalysisResponse response = byOrderId.get(item.request().orderId());
+            if (response != null) {
+                item.result().complete(response);
+            } else {
+                fallback(item);
+            }
+        }
+    }
+
+    private void fallback(PendingAnalysis item) {
+        fraudAnalysisClient.analyzeFraudAsync(item.request().orderId(), item.request().customerId())
+            .whenComplete((response, error) -> {
+                if (error != null) {
+                    item.result().completeExceptionally(error);
+                } else {
+                    item.result().complete(response);
+                }
+            });
+    }
+
+    boolean isStarted() {
+        synchronized (lock) {
+            return scheduler != null;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+        synchronized (lock) {
+            if (scheduler != null) {
+                scheduler.shutdown();
+            }
+        }
+    }
+
+    record PendingAnalysis(FraudAnalysisRequest request, CompletableFuture<FraudAnalysisResponse> result) {}
+}
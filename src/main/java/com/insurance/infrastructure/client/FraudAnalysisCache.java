@@ -0,0 +1,111 @@
+package com.insurance.infrastructure.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.insurance.domain.enums.CustomerRiskType;
+import com.insurance.infrastructure.client.dto.FraudAnalysisResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Bounded in-process cache of fraud provider results keyed by customer. Entries expire
+ * per classification, so high-risk verdicts are re-checked sooner than preferred ones.
+ * Hit, miss and eviction counts are published as {@code cache.*} meters tagged
+ * {@code cache=fraudAnalysis}.
+ */
+@Component
+public class FraudAnalysisCache {
+
+    static final String CACHE_NAME = "fraudAnalysis";
+
+    private final Cache<UUID, CachedFraudAnalysis> cache;
+
+    @Autowired
+    public FraudAnalysisCache(MeterRegistry meterRegistry,
+                              @Value("${fraud.cache.max-size:10000}") long maxSize,
+                              @Value("${fraud.cache.ttl.regular-seconds:600}") long regularTtlSeconds,
+                              @Value("${fraud.cache.ttl.high-risk-seconds:60}") long highRiskTtlSeconds,
+                              @Value("${fraud.cache.ttl.preferred-seconds:3600}") long preferredTtlSeconds,
+                              @Value("${fraud.cache.ttl.no-information-seconds:60}") long noInformationTtlSeconds) {
+        this(meterRegistry, maxSize, ttls(regularTtlSeconds, highRiskTtlSeconds, preferredTtlSeconds,
+            noInformationTtlSeconds), Ticker.systemTicker());
+    }
+
+    FraudAnalysisCache(MeterRegistry meterRegistry, long maxSize, Map<CustomerRiskType, Duration> ttls,
+                       Ticker ticker) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfter(new ClassificationExpiry(ttls))
+            .ticker(ticker)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public Optional<CachedFraudAnalysis> get(UUID customerId) {
+        return Optional.ofNullable(cache.getIfPresent(customerId));
+    }
+
+    public void put(UUID customerId, FraudAnalysisResponse response) {
+        List<FraudAnalysisResponse.RiskOccurrenceResponse> occurrences =
+            response.getOccurrences() == null ? List.of() : List.copyOf(response.getOccurrences());
+        cache.put(customerId,
+            new CachedFraudAnalysis(response.getClassification(), response.getAnalyzedAt(), occurrences));
+    }
+
+    public void invalidate(UUID customerId) {
+        cache.invalidate(customerId);
+    }
+
+    long estimatedSize() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private static Map<CustomerRiskType, Duration> ttls(long regular, long highRisk, long preferred,
+                                                        long noInformation) {
+        Map<CustomerRiskType, Duration> ttls = new EnumMap<>(CustomerRiskType.class);
+        ttls.put(CustomerRiskType.REGULAR, Duration.ofSeconds(regular));
+        ttls.put(CustomerRiskType.HIGH_RISK, Duration.ofSeconds(highRisk));
+        ttls.put(CustomerRiskType.PREFERRED, Duration.ofSeconds(preferred));
+        ttls.put(CustomerRiskType.NO_INFORMATION, Duration.ofSeconds(noInformation));
+        return ttls;
+    }
+
+    public record CachedFraudAnalysis(CustomerRiskType classification,
+                                      LocalDateTime analyzedAt,
+                                      List<FraudAnalysisResponse.RiskOccurrenceResponse> occurrences) {}
+
+    private record ClassificationExpiry(Map<CustomerRiskType, Duration> ttls)
+        implements Expiry<UUID, CachedFraudAnalysis> {
+
+        @Override
+        public long expireAfterCreate(UUID key, CachedFraudAnalysis value, long currentTime) {
+            return ttls.getOrDefault(value.classification(), Duration.ZERO).toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(UUID key, CachedFraudAnalysis value, long currentTime,
+                                      long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(UUID key, CachedFraudAnalysis value, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,25 +1,223 @@
 package com.insurance.infrastructure.client;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.insurance.infrastructure.client.dto.FraudAnalysisResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
-import lombok.RequiredArgsConstructor;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+/**
+ * Client for the external fraud provider. Concurrent lookups for the same customer are
+ * coalesced: only the first caller issues the HTTP call and the others receive a copy of its
+ * result carrying their own order id.
+ * Lookups may be hedged according to {@link HedgingPolicy}.
+ */
 @Component
-@RequiredArgsConstructor
 public class FraudAnalysisClient {
 
     private final RestTemplate restTemplate;
+    private final HttpClient fraudHttpClient;
+    private final ObjectMapper objectMapper;
+    private final HedgingPolicy hedgingPolicy;
+    private final ConcurrentMap<UUID, CompletableFuture<FraudAnalysisResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Counter coalescedCalls;
 
     @Value("${fraud.api.url}")
     private String fraudApiUrl;
 
+    @Value("${fraud.api.batch-url:}")
+    private String fraudBatchApiUrl;
+
+    @Value("${fraud.api.read-timeout-ms:2000}")
+    private long readTimeoutMs;
+
+    public FraudAnalysisClient(RestTemplate restTemplate,
+                               HttpClient fraudHttpClient,
+                               ObjectMapper objectMapper,
+                               HedgingPolicy hedgingPolicy,
+                               MeterRegistry meterRegistry) {
+        this.restTemplate = restTemplate;
+        this.fraudHttpClient = fraudHttpClient;
+        this.objectMapper = objectMapper;
+        this.hedgingPolicy = hedgingPolicy;
+        this.coalescedCalls = Counter.builder("fraud.client.coalesced")
+            .description("Fraud lookups served by another caller's in-flight request")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Blocking lookup used by the pipeline. With hedging enabled it waits on the hedged async
+     * call instead of a single synchronous request.
+     */
     public FraudAnalysisResponse analyzeFraud(UUID orderId, UUID customerId) {
-        var request = new FraudAnalysisRequest(orderId, customerId);
-        return restTemplate.postForObject(fraudApiUrl, request, FraudAnalysisResponse.class);
+        if (hedgingPolicy.isEnabled()) {
+            return await(analyzeFraudAsync(orderId, customerId));
+        }
+
+        CompletableFuture<FraudAnalysisResponse> call = new CompletableFuture<>();
+        CompletableFuture<FraudAnalysisResponse> existing = inFlight.putIfAbsent(customerId, call);
+        if (existing != null) {
+            coalescedCalls.increment();
+            return forOrder(await(existing), orderId);
+        }
+
+        try {
+            var request = new FraudAnalysisRequest(orderId, customerId);
+            FraudAnalysisResponse response = restTemplate.postForObject(fraudApiUrl, request, FraudAnalysisResponse.class);
+            complete(customerId, call, response, null);
+            return response;
+        } catch (RuntimeException e) {
+            complete(customerId, call, null, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Analyzes several orders in one call to the provider's batch endpoint. Responses are not
+     * guaranteed to be complete or ordered; callers match them by {@code orderId}.
+     */
+    public List<FraudAnalysisResponse> analyzeFraudBatch(List<FraudAnalysisRequest> requests) {
+        if (fraudBatchApiUrl == null || fraudBatchApiUrl.isBlank()) {
+            throw new IllegalStateException("fraud.api.batch-url is not configured");
+        }
+        FraudAnalysisResponse[] responses =
+            restTemplate.postForObject(fraudBatchApiUrl, requests, FraudAnalysisResponse[].class);
+        return responses == null ? List.of() : Arrays.asList(responses);
+    }
+
+    /**
+     * Non-blocking variant: the caller's thread is released while the request is in flight.
+     * Failures complete the future exceptionally with a {@link RestClientException}
+     * or the underlying I/O exception.
+     */
+    public CompletableFuture<FraudAnalysisResponse> analyzeFraudAsync(UUID orderId, UUID customerId) {
+        CompletableFuture<FraudAnalysisResponse> call = new CompletableFuture<>();
+        CompletableFuture<FraudAnalysisResponse> existing = inFlight.putIfAbsent(customerId, call);
+        if (existing != null) {
+            coalescedCalls.increment();
+            return existing.thenApply(response -> forOrder(response, orderId));
+        }
+
+        CompletableFuture<FraudAnalysisResponse> attempt = hedgingPolicy.isEnabled()
+            ? sendHedged(orderId, customerId)
+            : send(orderId, customerId);
+        attempt.whenComplete((response, error) -> complete(customerId, call, response, error));
+        return call.copy();
+    }
+
+    private static FraudAnalysisResponse forOrder(FraudAnalysisResponse response, UUID orderId) {
+        return response == null ? null : response.withOrderId(orderId);
+    }
+
+    /**
+     * Sends the request and, if it has not answered within the hedging delay and the hedge
+     * budget allows it, a second identical request. The first successful answer wins; the
+     * lookup only fails once every attempt has failed.
+     */
+    private CompletableFuture<FraudAnalysisResponse> sendHedged(UUID orderId, UUID customerId) {
+        CompletableFuture<FraudAnalysisResponse> result = new CompletableFuture<>();
+        AtomicInteger outstanding = new AtomicInteger(1);
+        hedgingPolicy.onRequest();
+        attempt(orderId, customerId, result, outstanding, false);
+
+        CompletableFuture.runAsync(() -> {
+            if (!result.isDone() && hedgingPolicy.tryAcquireHedge()) {
+                outstanding.incrementAndGet();
+                attempt(orderId, customerId, result, outstanding, true);
+            }
+        }, CompletableFuture.delayedExecutor(hedgingPolicy.delayMillis(), TimeUnit.MILLISECONDS));
+
+        return result;
+    }
+
+    private void attempt(UUID orderId, UUID customerId, CompletableFuture<FraudAnalysisResponse> result,
+                         AtomicInteger outstanding, boolean hedge) {
+        long start = System.nanoTime();
+        send(orderId, customerId).whenComplete((response, error) -> {
+            if (error == null) {
+                // Complete first so a failure while recording can never strand the lookup
+                boolean won = result.complete(response);
+                hedgingPolicy.recordLatency(System.nanoTime() - start);
+                if (won && hedge) {
+                    hedgingPolicy.recordHedgeWin();
+                }
+            } else if (outstanding.decrementAndGet() == 0) {
+                result.completeExceptionally(error);
+            }
+        });
+    }
+
+    private CompletableFuture<FraudAnalysisResponse> send(UUID orderId, UUID customerId) {
+        HttpRequest httpRequest;
+        try {
+            httpRequest = HttpRequest.newBuilder(URI.create(fraudApiUrl))
+                .timeout(Duration.ofMillis(readTimeoutMs))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(
+                    objectMapper.writeValueAsBytes(new FraudAnalysisRequest(orderId, customerId))))
+                .build();
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(new RestClientException("Could not write fraud analysis request", e));
+        }
+
+        return fraudHttpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.ofByteArray())
+            .thenApply(this::readResponse);
+    }
+
+    private void complete(UUID customerId, CompletableFuture<FraudAnalysisResponse> call,
+                          FraudAnalysisResponse response, Throwable error) {
+        inFlight.remove(customerId, call);
+        if (error == null) {
+            call.complete(response);
+        } else {
+            call.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                ? error.getCause() : error);
+        }
+    }
+
+    private FraudAnalysisResponse await(CompletableFuture<FraudAnalysisResponse> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RestClientException("Fraud analysis request failed", e.getCause());
+        }
+    }
+
+    private FraudAnalysisResponse readResponse(HttpResponse<byte[]> response) {
+        if (response.statusCode() < 200 || response.statusCode() >= 300) {
+            throw new RestClientException("Fraud analysis API returned status " + response.statusCode());
+        }
+        try {
+            return objectMapper.readValue(response.body(), FraudAnalysisResponse.class);
+        } catch (IOException e) {
+            throw new RestClientException("Could not read fraud analysis response", e);
+        }
     }
 
     record FraudAnalysisRequest(UUID orderId, UUID customerId) {}
-} 
\ No newline at end of file
+}
@@ -0,0 +1,94 @@
+package com.insurance.infrastructure.client;
+
+import com.insurance.infrastructure.client.config.FraudProviderProperties;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Circuit breaker and concurrency-limited bulkhead around calls to the fraud provider.
+ * Calls that are not attempted fail fast with {@link FraudProviderUnavailableException}
+ * instead of tying up a thread on a degraded provider.
+ */
+@Component
+@Slf4j
+public class FraudProviderGuard {
+
+    static final String NAME = "fraudProvider";
+
+    private final CircuitBreaker circuitBreaker;
+    private final Bulkhead bulkhead;
+    private final MeterRegistry meterRegistry;
+    private final Counter circuitOpenRejections;
+    private final Counter bulkheadFullRejections;
+
+    public FraudProviderGuard(FraudProviderProperties properties, MeterRegistry meterRegistry) {
+        FraudProviderProperties.CircuitBreaker cb = properties.getCircuitBreaker();
+        CircuitBreakerRegistry circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+            .failureRateThreshold(cb.getFailureRateThreshold())
+            .slowCallRateThreshold(cb.getSlowCallRateThreshold())
+            .slowCallDurationThreshold(Duration.ofMillis(cb.getSlowCallDurationMs()))
+            .slidingWindowSize(cb.getSlidingWindowSize())
+            .minimumNumberOfCalls(cb.getMinimumNumberOfCalls())
+            .waitDurationInOpenState(Duration.ofMillis(cb.getWaitDurationInOpenStateMs()))
+            .permittedNumberOfCallsInHalfOpenState(cb.getPermittedCallsInHalfOpenState())
+            .ignoreExceptions(BulkheadFullException.class, IllegalArgumentException.class)
+            .build());
+        BulkheadRegistry bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+            .maxConcurrentCalls(properties.getBulkhead().getMaxConcurrentCalls())
+            .maxWaitDuration(Duration.ofMillis(properties.getBulkhead().getMaxWaitMs()))
+            .build());
+
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(NAME);
+        this.bulkhead = bulkheadRegistry.bulkhead(NAME);
+        this.meterRegistry = meterRegistry;
+        this.circuitOpenRejections = Counter.builder("fraud.provider.rejected")
+            .tag("reason", "circuit_open")
+            .register(meterRegistry);
+        this.bulkheadFullRejections = Counter.builder("fraud.provider.rejected")
+            .tag("reason", "bulkhead_full")
+            .register(meterRegistry);
+
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+        TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry).bindTo(meterRegistry);
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            log.warn("Fraud provider circuit breaker: {}", event.getStateTransition());
+            Counter.builder("fraud.provider.state.transitions")
+                .tag("from", event.getStateTransition().getFromState().name())
+                .tag("to", event.getStateTransition().getToState().name())
+                .register(this.meterRegistry)
+                .increment();
+        });
+    }
+
+    public <T> T call(Supplier<T> supplier) {
+        Supplier<T> guarded = CircuitBreaker.decorateSupplier(circuitBreaker,
+            Bulkhead.decorateSupplier(bulkhead, supplier));
+        try {
+            return guarded.get();
+        } catch (CallNotPermittedException e) {
+            circuitOpenRejections.increment();
+            throw new FraudProviderUnavailableException("Fraud provider circuit breaker is open", e);
+        } catch (BulkheadFullException e) {
+            bulkheadFullRejections.increment();
+            throw new FraudProviderUnavailableException("Fraud provider bulkhead is full", e);
+        }
+    }
+
+    CircuitBreaker.State getState() {
+        return circuitBreaker.getState();
+    }
+}
@@ -0,0 +1,12 @@
+package com.insurance.infrastructure.client;
+
+/**
+ * The fraud provider was not called because its circuit breaker is open or its bulkhead
+ * is full. The request was not analyzed and can be retried later.
+ */
+public class FraudProviderUnavailableException extends RuntimeException {
+
+    public FraudProviderUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
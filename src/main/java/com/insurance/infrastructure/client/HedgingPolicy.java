@@ -0,0 +1,104 @@
+package com.insurance.infrastructure.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Decides when a second, identical fraud request may be sent for a call that has not answered
+ * yet. The hedge delay is a percentile of recently observed latencies, and hedges are limited
+ * to a fraction of all requests so a slow provider is not hit with double the load.
+ */
+@Component
+public class HedgingPolicy {
+
+    private static final int RECOMPUTE_EVERY = 64;
+    private static final double MAX_BUDGET_CREDITS = 10;
+
+    private final boolean enabled;
+    private final double percentile;
+    private final double budgetFraction;
+    private final long minDelayNanos;
+    private final long[] latencies;
+    private final Counter hedgesSent;
+    private final Counter hedgeWins;
+
+    private int samples;
+    private int sinceRecompute;
+    private int next;
+    private double credits;
+    private volatile long delayNanos;
+
+    public HedgingPolicy(MeterRegistry meterRegistry,
+                         @Value("${fraud.hedging.enabled:false}") boolean enabled,
+                         @Value("${fraud.hedging.percentile:0.95}") double percentile,
+                         @Value("${fraud.hedging.budget:0.05}") double budgetFraction,
+                         @Value("${fraud.hedging.initial-delay-ms:200}") long initialDelayMs,
+                         @Value("${fraud.hedging.min-delay-ms:20}") long minDelayMs,
+                         @Value("${fraud.hedging.window-size:1024}") int windowSize) {
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("fraud.hedging.percentile must be between 0 and 1");
+        }
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("fraud.hedging.window-size must be positive");
+        }
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.budgetFraction = budgetFraction;
+        this.minDelayNanos = TimeUnit.MILLISECONDS.toNanos(minDelayMs);
+        this.latencies = new long[windowSize];
+        this.delayNanos = Math.max(minDelayNanos, TimeUnit.MILLISECONDS.toNanos(initialDelayMs));
+        this.hedgesSent = Counter.builder("fraud.client.hedge.sent")
+            .description("Second attempts sent for slow fraud lookups")
+            .register(meterRegistry);
+        this.hedgeWins = Counter.builder("fraud.client.hedge.wins")
+            .description("Fraud lookups answered by the hedged attempt first")
+            .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long delayMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(delayNanos);
+    }
+
+    /**
+     * Called once per primary request; earns the budget that hedges spend.
+     */
+    public synchronized void onRequest() {
+        credits = Math.min(MAX_BUDGET_CREDITS, credits + budgetFraction);
+    }
+
+    public synchronized boolean tryAcquireHedge() {
+        if (credits < 1) {
+            return false;
+        }
+        credits -= 1;
+        hedgesSent.increment();
+        return true;
+    }
+
+    public void recordHedgeWin() {
+        hedgeWins.increment();
+    }
+
+    public synchronized void recordLatency(long nanos) {
+        latencies[next] = nanos;
+        next = (next + 1) % latencies.length;
+        if (samples < latencies.length) {
+            samples++;
+        }
+        if (++sinceRecompute >= RECOMPUTE_EVERY) {
+            sinceRecompute = 0;
+            long[] window = Arrays.copyOf(latencies, samples);
+            Arrays.sort(window);
+            int index = (int) Math.ceil(percentile * window.length) - 1;
+            delayNanos = Math.max(minDelayNanos, window[Math.max(index, 0)]);
+        }
+    }
+}
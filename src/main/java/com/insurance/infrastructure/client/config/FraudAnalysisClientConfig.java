@@ -0,0 +1,55 @@
+package com.insurance.infrastructure.client.config;
+
+import jakarta.annotation.PreDestroy;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Shared JDK {@link HttpClient} for the fraud provider. Both the blocking {@link RestTemplate}
+ * and the asynchronous API of {@link com.insurance.infrastructure.client.FraudAnalysisClient}
+ * use it, so they reuse the same keep-alive connection pool.
+ */
+@Configuration
+@EnableConfigurationProperties(FraudProviderProperties.class)
+public class FraudAnalysisClientConfig {
+
+    private ExecutorService fraudHttpExecutor;
+
+    /**
+     * The client's worker pool is kept private to it: an {@code Executor} bean would switch off
+     * Boot's {@code applicationTaskExecutor}, which MVC async and streaming responses run on.
+     */
+    @Bean
+    public HttpClient fraudHttpClient(@Value("${fraud.api.executor-threads:16}") int threads,
+                                      @Value("${fraud.api.connect-timeout-ms:1000}") long connectTimeoutMs) {
+        fraudHttpExecutor = Executors.newFixedThreadPool(threads);
+        return HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+            .executor(fraudHttpExecutor)
+            .build();
+    }
+
+    @PreDestroy
+    void shutdownFraudHttpExecutor() {
+        if (fraudHttpExecutor != null) {
+            fraudHttpExecutor.shutdown();
+        }
+    }
+
+    @Bean
+    public RestTemplate restTemplate(HttpClient fraudHttpClient,
+                                     @Value("${fraud.api.read-timeout-ms:2000}") long readTimeoutMs) {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(fraudHttpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMs));
+        return new RestTemplate(requestFactory);
+    }
+}
@@ -0,0 +1,35 @@
+package com.insurance.infrastructure.client.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "fraud.provider")
+public class FraudProviderProperties {
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Bulkhead bulkhead = new Bulkhead();
+    private Retry retry = new Retry();
+
+    @Data
+    public static class CircuitBreaker {
+        private float failureRateThreshold = 50;
+        private float slowCallRateThreshold = 80;
+        private long slowCallDurationMs = 1500;
+        private int slidingWindowSize = 50;
+        private int minimumNumberOfCalls = 20;
+        private long waitDurationInOpenStateMs = 10000;
+        private int permittedCallsInHalfOpenState = 5;
+    }
+
+    @Data
+    public static class Bulkhead {
+        private int maxConcurrentCalls = 32;
+        private long maxWaitMs = 0;
+    }
+
+    @Data
+    public static class Retry {
+        private long delayMs = 30000;
+    }
+}
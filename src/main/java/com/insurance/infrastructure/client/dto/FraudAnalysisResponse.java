@@ -14,6 +14,20 @@ public class FraudAnalysisResponse {
     private CustomerRiskType classification;
     private List<RiskOccurrenceResponse> occurrences;
 
+    /**
+     * Returns a copy of this response for another order of the same customer, used when a
+     * coalesced lookup is shared between callers.
+     */
+    public FraudAnalysisResponse withOrderId(UUID orderId) {
+        FraudAnalysisResponse copy = new FraudAnalysisResponse();
+        copy.setOrderId(orderId);
+        copy.setCustomerId(customerId);
+        copy.setAnalyzedAt(analyzedAt);
+        copy.setClassification(classification);
+        copy.setOccurrences(occurrences);
+        return copy;
+    }
+
     @Data
     public static class RiskOccurrenceResponse {
         private UUID id;
@@ -0,0 +1,174 @@
+package com.insurance.infrastructure.idempotency;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurance.infrastructure.idempotency.IdempotencyStore.Claim;
+import com.insurance.infrastructure.idempotency.IdempotencyStore.StoredResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Honours the {@code Idempotency-Key} header on policy-request creation and on the pipeline
+ * commands. The first request with a key runs normally and its successful response is stored;
+ * retries with the same key get that response back without reaching the controller. A retry
+ * that arrives while the first request is still running gets 409, and a request that reuses a
+ * key with a different body gets 422.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    static final int MAX_KEY_LENGTH = 255;
+
+    private static final Pattern IDEMPOTENT_PATHS = Pattern.compile(
+        "/api/v1/policy-requests(/[^/]+/(fraud-analysis|payment|subscription))?/?");
+
+    private final IdempotencyStore store;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equals(request.getMethod())
+            || request.getHeader(HEADER) == null
+            || !IDEMPOTENT_PATHS.matcher(request.getRequestURI().substring(request.getContextPath().length())).matches();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String idempotencyKey = request.getHeader(HEADER);
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeProblem(response, HttpStatus.BAD_REQUEST, "Invalid Idempotency Key",
+                HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        // The body is read up front to digest it, then replayed to the rest of the chain
+        byte[] body = StreamUtils.copyToByteArray(request.getInputStream());
+        byte[] requestDigest = IdempotencyStore.requestDigest(body);
+        UUID key = IdempotencyStore.keyFor(request.getMethod() + ' ' + request.getRequestURI(), idempotencyKey);
+        Claim claim = store.claim(key, requestDigest);
+        switch (claim.outcome()) {
+            case REPLAY -> replay(response, claim.response());
+            case IN_PROGRESS -> writeProblem(response, HttpStatus.CONFLICT, "Request In Progress",
+                "A request with this " + HEADER + " is still being processed");
+            case MISMATCH -> writeProblem(response, HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency Key Reused",
+                "This " + HEADER + " was already used with a different request body");
+            case ACQUIRED -> execute(new CachedBodyRequest(request, body), response, chain, key, requestDigest);
+        }
+    }
+
+    private void execute(HttpServletRequest request, HttpServletResponse response, FilterChain chain, UUID key,
+                         byte[] requestDigest) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        try {
+            chain.doFilter(request, wrapper);
+        } catch (ServletException | IOException | RuntimeException e) {
+            store.release(key);
+            throw e;
+        }
+
+        // Only successful responses are kept; failures release the key so the client can retry
+        if (wrapper.getStatus() >= 200 && wrapper.getStatus() < 300) {
+            store.complete(key, requestDigest, new StoredResponse(wrapper.getStatus(), wrapper.getContentType(),
+                wrapper.getContentAsByteArray()));
+        } else {
+            store.release(key);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private void replay(HttpServletResponse response, StoredResponse stored) throws IOException {
+        log.debug("Replaying stored response for {}", HEADER);
+        response.setStatus(stored.status());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeProblem(HttpServletResponse response, HttpStatus status, String title, String detail)
+            throws IOException {
+        ProblemDetail problem = ProblemDetail.forStatusAndDetail(status, detail);
+        problem.setTitle(title);
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), problem);
+    }
+
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException("Async reads are not supported");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            Charset charset = getCharacterEncoding() == null
+                ? StandardCharsets.UTF_8
+                : Charset.forName(getCharacterEncoding());
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.insurance.infrastructure.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.insurance.domain.IdempotencyRecord;
+import com.insurance.repository.IdempotencyRecordRepository;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dedup store for idempotency keys: a bounded in-memory tier of completed responses in front of
+ * the {@code idempotency_keys} table. Keys are hashed with their scope into a UUID, so entries
+ * stay compact whatever the client sends. Claims and responses both expire, a claim quickly so a
+ * crashed holder does not block retries, a response after the replay window. Each claim records a
+ * digest of the request body, and a later request under the same key with a different body is
+ * reported as a mismatch rather than replayed.
+ * <p>
+ * Methods commit on their own and must not be called inside a caller's transaction.
+ */
+@Component
+@Slf4j
+public class IdempotencyStore {
+
+    private final IdempotencyRecordRepository repository;
+    private final Cache<UUID, Completed> responses;
+    private final Duration ttl;
+    private final Duration inProgressTimeout;
+    private final Clock clock;
+
+    @Autowired
+    public IdempotencyStore(IdempotencyRecordRepository repository,
+                            @Value("${idempotency.ttl-seconds:86400}") long ttlSeconds,
+                            @Value("${idempotency.in-progress-timeout-seconds:30}") long inProgressTimeoutSeconds,
+                            @Value("${idempotency.memory.max-size:100000}") long maxSize) {
+        this(repository, Duration.ofSeconds(ttlSeconds), Duration.ofSeconds(inProgressTimeoutSeconds), maxSize,
+            Clock.systemDefaultZone());
+    }
+
+    IdempotencyStore(IdempotencyRecordRepository repository, Duration ttl, Duration inProgressTimeout,
+                     long maxSize, Clock clock) {
+        this.repository = repository;
+        this.ttl = ttl;
+        this.inProgressTimeout = inProgressTimeout;
+        this.clock = clock;
+        this.responses = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .build();
+    }
+
+    public static UUID keyFor(String scope, String idempotencyKey) {
+        return UUID.nameUUIDFromBytes((scope + '\n' + idempotencyKey).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * SHA-256 of the request body, stored with the claim to tell a retry from a different request
+     * reusing the key.
+     */
+    public static byte[] requestDigest(byte[] body) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(body);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Claims {@code key} for the caller, or reports the stored response or the claim held by
+     * someone else. Expired rows are taken over. A live claim or response recorded for a
+     * different request digest yields {@link Claim.Outcome#MISMATCH}.
+     */
+    public Claim claim(UUID key, byte[] requestDigest) {
+        Completed cached = responses.getIfPresent(key);
+        if (cached != null) {
+            return matches(cached.requestDigest(), requestDigest) ? Claim.replay(cached.response()) : Claim.mismatch();
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (int attempt = 0; attempt < 2; attempt++) {
+            if (tryInsert(key, requestDigest, now.plus(inProgressTimeout))) {
+                return Claim.acquired();
+            }
+            Optional<IdempotencyRecord> existing = repository.findById(key);
+            if (existing.isEmpty()) {
+                // released between our insert and the read
+                continue;
+            }
+            IdempotencyRecord record = existing.get();
+            if (record.getExpiresAt().isAfter(now)) {
+                if (!matches(record.getRequestDigest(), requestDigest)) {
+                    return Claim.mismatch();
+                }
+                if (!record.isCompleted()) {
+                    return Claim.inProgress();
+                }
+                StoredResponse response = new StoredResponse(record.getResponseStatus(), record.getContentType(),
+                    record.getResponseBody() == null ? new byte[0] : record.getResponseBody());
+                responses.put(key, new Completed(response, record.getRequestDigest()));
+                return Claim.replay(response);
+            }
+            repository.deleteIfExpired(key, now);
+        }
+        return Claim.inProgress();
+    }
+
+    public void complete(UUID key, byte[] requestDigest, StoredResponse response) {
+        int updated = repository.complete(key, response.status(), response.contentType(), response.body(),
+            LocalDateTime.now(clock).plus(ttl));
+        if (updated == 0) {
+            log.warn("Idempotency claim {} expired before its response was stored", key);
+            return;
+        }
+        responses.put(key, new Completed(response, requestDigest));
+    }
+
+    public void release(UUID key) {
+        repository.deleteClaim(key);
+    }
+
+    @Scheduled(fixedDelayString = "${idempotency.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        int purged = repository.deleteExpired(LocalDateTime.now(clock));
+        if (purged > 0) {
+            log.debug("Purged {} expired idempotency keys", purged);
+        }
+    }
+
+    // Rows claimed before digests were recorded have none and match any request
+    private static boolean matches(byte[] stored, byte[] requestDigest) {
+        return stored == null || MessageDigest.isEqual(stored, requestDigest);
+    }
+
+    private boolean tryInsert(UUID key, byte[] requestDigest, LocalDateTime expiresAt) {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setId(key);
+        record.setRequestDigest(requestDigest);
+        record.setExpiresAt(expiresAt);
+        try {
+            repository.saveAndFlush(record);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    public record StoredResponse(int status, String contentType, byte[] body) {}
+
+    private record Completed(StoredResponse response, byte[] requestDigest) {}
+
+    public record Claim(Outcome outcome, StoredResponse response) {
+
+        public enum Outcome { ACQUIRED, REPLAY, IN_PROGRESS, MISMATCH }
+
+        public static Claim acquired() {
+            return new Claim(Outcome.ACQUIRED, null);
+        }
+
+        public static Claim replay(StoredResponse response) {
+            return new Claim(Outcome.REPLAY, response);
+        }
+
+        public static Claim inProgress() {
+            return new Claim(Outcome.IN_PROGRESS, null);
+        }
+
+        public static Claim mismatch() {
+            return new Claim(Outcome.MISMATCH, null);
+        }
+    }
+}
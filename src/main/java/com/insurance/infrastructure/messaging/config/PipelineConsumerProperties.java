@@ -0,0 +1,46 @@
+package com.insurance.infrastructure.messaging.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "messaging.consumers")
+public class PipelineConsumerProperties {
+
+    private boolean enabled = true;
+    private Stage fraudAnalysis = new Stage();
+    private Stage payment = new Stage();
+    private Stage subscription = new Stage();
+    private ConflictRetry conflictRetry = new ConflictRetry();
+    private Retry retry = new Retry();
+
+    @Data
+    public static class Stage {
+        private int concurrency = 1;
+        private int maxConcurrency = 4;
+        private int prefetch = 50;
+        private int batchSize = 10;
+    }
+
+    /**
+     * How often a step that lost an optimistic-lock race is re-run before the message is
+     * handed back to the broker.
+     */
+    @Data
+    public static class ConflictRetry {
+        private int maxAttempts = 3;
+        private long backoffMs = 25;
+    }
+
+    /**
+     * Redelivery of a failed batch inside the listener. Once attempts run out the batch is
+     * rejected without requeue and dead-lettered to its stage's DLQ.
+     */
+    @Data
+    public static class Retry {
+        private int maxAttempts = 3;
+        private long initialIntervalMs = 1000;
+        private double multiplier = 2.0;
+        private long maxIntervalMs = 10000;
+    }
+}
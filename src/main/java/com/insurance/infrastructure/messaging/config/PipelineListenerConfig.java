@@ -0,0 +1,88 @@
+package com.insurance.infrastructure.messaging.config;
+
+import java.util.List;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.config.RetryInterceptorBuilder;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.retry.MessageBatchRecoverer;
+import org.springframework.amqp.rabbit.retry.RejectAndDontRequeueRecoverer;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * One listener container factory per pipeline stage so concurrency, prefetch and
+ * batch size can be tuned independently. A failed batch is retried a bounded number of
+ * times and then rejected without requeue, which dead-letters it to the stage's DLQ.
+ */
+@Configuration
+@EnableConfigurationProperties({PipelineConsumerProperties.class, PipelineShardingProperties.class})
+public class PipelineListenerConfig {
+
+    public static final String FRAUD_ANALYSIS_FACTORY = "fraudAnalysisListenerFactory";
+    public static final String PAYMENT_FACTORY = "paymentListenerFactory";
+    public static final String SUBSCRIPTION_FACTORY = "subscriptionListenerFactory";
+
+    @Bean(FRAUD_ANALYSIS_FACTORY)
+    public SimpleRabbitListenerContainerFactory fraudAnalysisListenerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            PipelineConsumerProperties properties) {
+        return stageFactory(configurer, connectionFactory, properties.getFraudAnalysis(), properties.getRetry());
+    }
+
+    @Bean(PAYMENT_FACTORY)
+    public SimpleRabbitListenerContainerFactory paymentListenerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            PipelineConsumerProperties properties) {
+        return stageFactory(configurer, connectionFactory, properties.getPayment(), properties.getRetry());
+    }
+
+    @Bean(SUBSCRIPTION_FACTORY)
+    public SimpleRabbitListenerContainerFactory subscriptionListenerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            PipelineConsumerProperties properties) {
+        return stageFactory(configurer, connectionFactory, properties.getSubscription(), properties.getRetry());
+    }
+
+    static SimpleRabbitListenerContainerFactory stageFactory(SimpleRabbitListenerContainerFactoryConfigurer configurer,
+                                                            ConnectionFactory connectionFactory,
+                                                            PipelineConsumerProperties.Stage stage,
+                                                            PipelineConsumerProperties.Retry retry) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setConcurrentConsumers(stage.getConcurrency());
+        factory.setMaxConcurrentConsumers(Math.max(stage.getConcurrency(), stage.getMaxConcurrency()));
+        factory.setPrefetchCount(stage.getPrefetch());
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(stage.getBatchSize());
+        factory.setDefaultRequeueRejected(false);
+        factory.setAdviceChain(RetryInterceptorBuilder.stateless()
+            .maxAttempts(retry.getMaxAttempts())
+            .backOffOptions(retry.getInitialIntervalMs(), retry.getMultiplier(), retry.getMaxIntervalMs())
+            .recoverer(new RejectAndDontRequeueBatchRecoverer())
+            .build());
+        return factory;
+    }
+
+    /**
+     * The stateless retry interceptor only hands a consumer batch to a {@link MessageBatchRecoverer};
+     * any other recoverer would let the exhausted batch be acknowledged and lost.
+     */
+    static class RejectAndDontRequeueBatchRecoverer extends RejectAndDontRequeueRecoverer
+            implements MessageBatchRecoverer {
+
+        @Override
+        public void recover(List<Message> messages, Throwable cause) {
+            throw new ListenerExecutionFailedException("Retries exhausted for batch of " + messages.size(),
+                new AmqpRejectAndDontRequeueException(cause), messages.toArray(Message[]::new));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.insurance.infrastructure.messaging.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Splits each pipeline queue into {@code shardCount} single-active-consumer queues so events for
+ * the same key are handled in order while different keys run in parallel. {@code ownedShards}
+ * pins this instance to a subset of shards; empty means it subscribes to all of them and the
+ * broker picks one active consumer per shard across instances.
+ */
+@Data
+@ConfigurationProperties(prefix = "messaging.sharding")
+public class PipelineShardingProperties {
+
+    private boolean enabled = false;
+    private int shardCount = 4;
+    private ShardKey key = ShardKey.POLICY_REQUEST;
+    private List<Integer> ownedShards = new ArrayList<>();
+
+    public enum ShardKey {
+        POLICY_REQUEST,
+        CUSTOMER
+    }
+}
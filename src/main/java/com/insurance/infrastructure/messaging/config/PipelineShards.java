@@ -0,0 +1,81 @@
+package com.insurance.infrastructure.messaging.config;
+
+import com.insurance.event.PolicyRequestEvent;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps pipeline events to shards and names the per-shard queues. Publishers stamp the shard in
+ * {@link #SHARD_HEADER}; {@link ShardedPipelineConfig} routes on it. Changing the shard count
+ * remaps keys, so drain the shard queues before resizing or per-key ordering is lost.
+ */
+@Component
+public class PipelineShards {
+
+    public static final String SHARD_HEADER = "x-pipeline-shard";
+
+    private final PipelineShardingProperties properties;
+
+    public PipelineShards(PipelineShardingProperties properties) {
+        if (properties.getShardCount() < 1) {
+            throw new IllegalArgumentException("messaging.sharding.shard-count must be positive");
+        }
+        properties.getOwnedShards().forEach(shard -> {
+            if (shard == null || shard < 0 || shard >= properties.getShardCount()) {
+                throw new IllegalArgumentException("Owned shard " + shard + " is outside 0.."
+                    + (properties.getShardCount() - 1));
+            }
+        });
+        this.properties = properties;
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public int getShardCount() {
+        return properties.getShardCount();
+    }
+
+    /**
+     * Shard for the event's key, or empty when sharding is disabled.
+     */
+    public OptionalInt shardOf(PolicyRequestEvent event) {
+        if (!properties.isEnabled()) {
+            return OptionalInt.empty();
+        }
+        UUID key = properties.getKey() == PipelineShardingProperties.ShardKey.CUSTOMER
+                   && event.getCustomerId() != null
+            ? event.getCustomerId()
+            : event.getPolicyRequestId();
+        return OptionalInt.of(shardFor(key, properties.getShardCount()));
+    }
+
+    /**
+     * Shards this instance consumes: the configured ones, or all of them when none are pinned.
+     */
+    public List<Integer> ownedShards() {
+        if (!properties.getOwnedShards().isEmpty()) {
+            return properties.getOwnedShards().stream().distinct().sorted().toList();
+        }
+        return IntStream.range(0, properties.getShardCount()).boxed().toList();
+    }
+
+    static int shardFor(UUID key, int shardCount) {
+        if (key == null) {
+            throw new IllegalArgumentException("Shard key cannot be null");
+        }
+        return Math.floorMod(key.hashCode(), shardCount);
+    }
+
+    public static String shardExchange(String routingKey) {
+        return routingKey + ".shards";
+    }
+
+    public static String shardQueue(String queue, int shard) {
+        return queue + ".shard-" + shard;
+    }
+}
@@ -0,0 +1,58 @@
+package com.insurance.infrastructure.messaging.config;
+
+import com.insurance.domain.PolicyRequest;
+import com.insurance.domain.enums.PolicyRequestStatus;
+import com.insurance.event.PaymentProcessedEvent;
+import com.insurance.event.PolicyCancelledEvent;
+import com.insurance.event.PolicyRejectedEvent;
+import com.insurance.event.PolicyRequestEvent;
+import com.insurance.event.PolicyStatusChangedEvent;
+import com.insurance.event.PolicyValidatedEvent;
+import com.insurance.event.SubscriptionApprovedEvent;
+import java.util.function.Function;
+
+/**
+ * The event and routing key emitted when a policy request enters each status, precomputed per
+ * status ordinal. Statuses without a dedicated event publish a {@link PolicyStatusChangedEvent}.
+ */
+public final class PolicyRequestEventRoutes {
+
+    private static final String[] ROUTING_KEYS = new String[PolicyRequestStatus.values().length];
+
+    @SuppressWarnings("unchecked")
+    private static final Function<PolicyRequest, PolicyRequestEvent>[] EVENTS =
+        new Function[PolicyRequestStatus.values().length];
+
+    static {
+        route(PolicyRequestStatus.VALIDATED, RabbitMQConfig.POLICY_VALIDATED_KEY, PolicyValidatedEvent::new);
+        route(PolicyRequestStatus.REJECTED, RabbitMQConfig.POLICY_REJECTED_KEY, PolicyRejectedEvent::new);
+        route(PolicyRequestStatus.APPROVED, RabbitMQConfig.POLICY_APPROVED_KEY, SubscriptionApprovedEvent::new);
+        route(PolicyRequestStatus.CANCELLED, RabbitMQConfig.POLICY_CANCELLED_KEY, PolicyCancelledEvent::new);
+        route(PolicyRequestStatus.PENDING, RabbitMQConfig.PAYMENT_PROCESSED_KEY, PaymentProcessedEvent::new);
+        for (PolicyRequestStatus status : PolicyRequestStatus.values()) {
+            if (ROUTING_KEYS[status.ordinal()] == null) {
+                route(status, RabbitMQConfig.POLICY_STATUS_CHANGED_KEY, PolicyStatusChangedEvent::new);
+            }
+        }
+    }
+
+    private PolicyRequestEventRoutes() {
+    }
+
+    public static String routingKey(PolicyRequestStatus status) {
+        return ROUTING_KEYS[status.ordinal()];
+    }
+
+    /**
+     * Creates the event announcing the request's current status.
+     */
+    public static PolicyRequestEvent eventFor(PolicyRequest request) {
+        return EVENTS[request.getStatus().ordinal()].apply(request);
+    }
+
+    private static void route(PolicyRequestStatus status, String routingKey,
+                              Function<PolicyRequest, PolicyRequestEvent> event) {
+        ROUTING_KEYS[status.ordinal()] = routingKey;
+        EVENTS[status.ordinal()] = event;
+    }
+}
@@ -1,8 +1,19 @@
 package com.insurance.infrastructure.messaging.config;
 
+import com.insurance.infrastructure.client.config.FraudProviderProperties;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,6 +23,8 @@ public class RabbitMQConfig {
     public static final String POLICY_EVENTS_EXCHANGE = "policy.events.exchange";
     public static final String FRAUD_ANALYSIS_EXCHANGE = "fraud.analysis.exchange";
     public static final String PAYMENT_EXCHANGE = "payment.exchange";
+    public static final String POLICY_RETRY_EXCHANGE = "policy.retry.exchange";
+    public static final String PIPELINE_DEAD_LETTER_EXCHANGE = "policy.dead-letter.exchange";
     
     public static final String POLICY_CREATED_KEY = "policy.created";
     public static final String FRAUD_ANALYSIS_ROUTING_KEY = "fraud.analysis.request";
@@ -20,14 +33,119 @@ public class RabbitMQConfig {
     public static final String POLICY_VALIDATED_KEY = "policy.validated";
     public static final String POLICY_REJECTED_KEY = "policy.rejected";
     public static final String POLICY_APPROVED_KEY = "policy.approved";
+    public static final String POLICY_CANCELLED_KEY = "policy.cancelled";
+    public static final String POLICY_STATUS_CHANGED_KEY = "policy.status.changed";
     public static final String PAYMENT_PROCESSED_KEY = "payment.processed";
     public static final String PAYMENT_REJECTED_KEY = "payment.rejected";
+    public static final String FRAUD_ANALYSIS_RETRY_KEY = "fraud.analysis.retry";
+
+    public static final String POLICY_CREATED_QUEUE = "policy.created.queue";
+    public static final String POLICY_VALIDATED_QUEUE = "policy.validated.queue";
+    public static final String PAYMENT_PROCESSED_QUEUE = "payment.processed.queue";
+    public static final String FRAUD_ANALYSIS_RETRY_QUEUE = "fraud.analysis.retry.queue";
 
     @Bean
     public TopicExchange policyEventsExchange() {
         return new TopicExchange(POLICY_EVENTS_EXCHANGE);
     }
 
+    /**
+     * Unsharded pipeline queues; {@link ShardedPipelineConfig} declares per-shard queues instead
+     * when {@code messaging.sharding.enabled} is set. The broker refuses to redeclare a queue with
+     * different arguments, so queues created before dead-lettering was added must be drained and
+     * deleted before deploying.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "messaging.sharding.enabled", havingValue = "false", matchIfMissing = true)
+    public Queue policyCreatedQueue() {
+        return pipelineQueue(POLICY_CREATED_QUEUE, POLICY_CREATED_QUEUE).build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "messaging.sharding.enabled", havingValue = "false", matchIfMissing = true)
+    public Queue policyValidatedQueue() {
+        return pipelineQueue(POLICY_VALIDATED_QUEUE, POLICY_VALIDATED_QUEUE).build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "messaging.sharding.enabled", havingValue = "false", matchIfMissing = true)
+    public Queue paymentProcessedQueue() {
+        return pipelineQueue(PAYMENT_PROCESSED_QUEUE, PAYMENT_PROCESSED_QUEUE).build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "messaging.sharding.enabled", havingValue = "false", matchIfMissing = true)
+    public Binding policyCreatedBinding() {
+        return BindingBuilder.bind(policyCreatedQueue()).to(policyEventsExchange()).with(POLICY_CREATED_KEY);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "messaging.sharding.enabled", havingValue = "false", matchIfMissing = true)
+    public Binding policyValidatedBinding() {
+        return BindingBuilder.bind(policyValidatedQueue()).to(policyEventsExchange()).with(POLICY_VALIDATED_KEY);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "messaging.sharding.enabled", havingValue = "false", matchIfMissing = true)
+    public Binding paymentProcessedBinding() {
+        return BindingBuilder.bind(paymentProcessedQueue()).to(policyEventsExchange()).with(PAYMENT_PROCESSED_KEY);
+    }
+
+    /**
+     * Dead-letter exchange and one DLQ per pipeline stage. Batches that exhaust their listener
+     * retries are rejected and land here, keyed by the stage's queue name; shard queues share
+     * their stage's DLQ.
+     */
+    @Bean
+    public Declarables pipelineDeadLetterDeclarables() {
+        DirectExchange deadLetters = new DirectExchange(PIPELINE_DEAD_LETTER_EXCHANGE);
+        List<Declarable> declarables = new ArrayList<>();
+        declarables.add(deadLetters);
+        for (String queue : List.of(POLICY_CREATED_QUEUE, POLICY_VALIDATED_QUEUE, PAYMENT_PROCESSED_QUEUE)) {
+            Queue deadLetterQueue = QueueBuilder.durable(deadLetterQueue(queue)).build();
+            declarables.add(deadLetterQueue);
+            declarables.add(BindingBuilder.bind(deadLetterQueue).to(deadLetters).with(queue));
+        }
+        return new Declarables(declarables);
+    }
+
+    public static String deadLetterQueue(String queue) {
+        return queue + ".dlq";
+    }
+
+    /**
+     * Durable pipeline queue whose rejected messages are dead-lettered to the DLQ of
+     * {@code stageQueue}.
+     */
+    static QueueBuilder pipelineQueue(String name, String stageQueue) {
+        return QueueBuilder.durable(name)
+            .deadLetterExchange(PIPELINE_DEAD_LETTER_EXCHANGE)
+            .deadLetterRoutingKey(stageQueue);
+    }
+
+    @Bean
+    public DirectExchange policyRetryExchange() {
+        return new DirectExchange(POLICY_RETRY_EXCHANGE);
+    }
+
+    /**
+     * Parking queue for requests whose fraud analysis could not be attempted. Messages have
+     * no consumer: once the TTL expires they are dead-lettered back to {@code policy.created}.
+     */
+    @Bean
+    public Queue fraudAnalysisRetryQueue(FraudProviderProperties fraudProviderProperties) {
+        return QueueBuilder.durable(FRAUD_ANALYSIS_RETRY_QUEUE)
+            .ttl((int) fraudProviderProperties.getRetry().getDelayMs())
+            .deadLetterExchange(POLICY_EVENTS_EXCHANGE)
+            .deadLetterRoutingKey(POLICY_CREATED_KEY)
+            .build();
+    }
+
+    @Bean
+    public Binding fraudAnalysisRetryBinding(Queue fraudAnalysisRetryQueue, DirectExchange policyRetryExchange) {
+        return BindingBuilder.bind(fraudAnalysisRetryQueue).to(policyRetryExchange).with(FRAUD_ANALYSIS_RETRY_KEY);
+    }
+
     @Bean
     public MessageConverter jsonMessageConverter() {
         return new Jackson2JsonMessageConverter();
@@ -0,0 +1,53 @@
+package com.insurance.infrastructure.messaging.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Declarable;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.HeadersExchange;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.TopicExchange;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Sharded replacement for the pipeline queues in {@link RabbitMQConfig}. Each stage's routing key
+ * is forwarded from the events exchange to a headers exchange that routes on
+ * {@link PipelineShards#SHARD_HEADER} to one single-active-consumer queue per shard. Shard queues
+ * dead-letter to their stage's DLQ declared by {@link RabbitMQConfig}. The unsharded
+ * queues stay bound on a broker that already has them; drain and delete them when switching over.
+ */
+@Configuration
+@ConditionalOnProperty(name = "messaging.sharding.enabled", havingValue = "true")
+public class ShardedPipelineConfig {
+
+    @Bean
+    public Declarables pipelineShardDeclarables(TopicExchange policyEventsExchange, PipelineShards shards) {
+        List<Declarable> declarables = new ArrayList<>();
+        declarables.addAll(stageDeclarables(policyEventsExchange, RabbitMQConfig.POLICY_CREATED_KEY,
+                                            RabbitMQConfig.POLICY_CREATED_QUEUE, shards.getShardCount()));
+        declarables.addAll(stageDeclarables(policyEventsExchange, RabbitMQConfig.POLICY_VALIDATED_KEY,
+                                            RabbitMQConfig.POLICY_VALIDATED_QUEUE, shards.getShardCount()));
+        declarables.addAll(stageDeclarables(policyEventsExchange, RabbitMQConfig.PAYMENT_PROCESSED_KEY,
+                                            RabbitMQConfig.PAYMENT_PROCESSED_QUEUE, shards.getShardCount()));
+        return new Declarables(declarables);
+    }
+
+    static List<Declarable> stageDeclarables(TopicExchange events, String routingKey, String queue, int shardCount) {
+        HeadersExchange shardExchange = new HeadersExchange(PipelineShards.shardExchange(routingKey));
+        List<Declarable> declarables = new ArrayList<>();
+        declarables.add(shardExchange);
+        declarables.add(BindingBuilder.bind(shardExchange).to(events).with(routingKey));
+        for (int shard = 0; shard < shardCount; shard++) {
+            Queue shardQueue = RabbitMQConfig.pipelineQueue(PipelineShards.shardQueue(queue, shard), queue)
+                .singleActiveConsumer()
+                .build();
+            declarables.add(shardQueue);
+            declarables.add(BindingBuilder.bind(shardQueue).to(shardExchange)
+                .where(PipelineShards.SHARD_HEADER).matches(String.valueOf(shard)));
+        }
+        return declarables;
+    }
+}
@@ -0,0 +1,18 @@
+package com.insurance.infrastructure.messaging.dto;
+
+import com.insurance.domain.enums.PolicyRequestStatus;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Consumer-side view of a {@link com.insurance.event.PolicyRequestEvent} payload. {@code eventId}
+ * is null for messages published before events carried one.
+ */
+public record PolicyRequestEventMessage(
+    UUID eventId,
+    UUID policyRequestId,
+    UUID customerId,
+    PolicyRequestStatus status,
+    LocalDateTime timestamp,
+    String eventType
+) {}
@@ -0,0 +1,12 @@
+package com.insurance.infrastructure.messaging.inbox;
+
+/**
+ * The consumer already recorded this event: another delivery got its inbox row in first. The
+ * surrounding transaction is rolled back so the step does not run twice.
+ */
+public class DuplicateEventException extends RuntimeException {
+
+    public DuplicateEventException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
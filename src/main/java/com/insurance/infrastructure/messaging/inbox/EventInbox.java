@@ -0,0 +1,197 @@
+package com.insurance.infrastructure.messaging.inbox;
+
+import com.insurance.domain.InboxEvent;
+import com.insurance.repository.InboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Records which events each consumer has handled so redeliveries can be dropped. The inbox row is
+ * written in the step's own transaction by {@link #recordProcessed}, so its primary key is what
+ * decides whether a delivery is a duplicate. A Bloom filter holding every committed id in
+ * {@code event_inbox} lets {@link #isProcessed} skip known duplicates early; a miss is only a hint,
+ * since ids recorded by other instances reach the filter on the next refresh. The filter is
+ * rebuilt after compaction deletes rows past retention. Lookups are counted as
+ * {@code messaging.inbox.lookups} tagged by result.
+ */
+@Component
+@Slf4j
+public class EventInbox {
+
+    static final String LOOKUPS = "messaging.inbox.lookups";
+
+    private static final int REBUILD_PAGE_SIZE = 10_000;
+    private static final UUID FIRST_KEY = new UUID(0L, 0L);
+    // Other instances stamp processed_at with their own clocks
+    private static final Duration REFRESH_OVERLAP = Duration.ofSeconds(2);
+
+    private final InboxEventRepository repository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Duration retention;
+    private final Clock clock;
+    private final Counter filteredLookups;
+    private final Counter duplicateLookups;
+    private final Counter falsePositiveLookups;
+
+    private volatile UuidBloomFilter filter;
+    private volatile LocalDateTime refreshedAt;
+
+    @Autowired
+    public EventInbox(InboxEventRepository repository,
+                      MeterRegistry meterRegistry,
+                      @Value("${messaging.inbox.expected-insertions:1000000}") long expectedInsertions,
+                      @Value("${messaging.inbox.false-positive-rate:0.01}") double falsePositiveRate,
+                      @Value("${messaging.inbox.retention-hours:168}") long retentionHours) {
+        this(repository, meterRegistry, expectedInsertions, falsePositiveRate, Duration.ofHours(retentionHours),
+            Clock.systemDefaultZone());
+    }
+
+    EventInbox(InboxEventRepository repository, MeterRegistry meterRegistry, long expectedInsertions,
+               double falsePositiveRate, Duration retention, Clock clock) {
+        this.repository = repository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.retention = retention;
+        this.clock = clock;
+        this.filter = new UuidBloomFilter(expectedInsertions, falsePositiveRate);
+        this.refreshedAt = LocalDateTime.now(clock);
+        this.filteredLookups = lookups(meterRegistry, "filtered");
+        this.duplicateLookups = lookups(meterRegistry, "duplicate");
+        this.falsePositiveLookups = lookups(meterRegistry, "false_positive");
+    }
+
+    /**
+     * Keeps the event id's time-ordered high bits so inbox inserts stay index-friendly.
+     */
+    public static UUID inboxKey(String consumer, UUID eventId) {
+        long consumerBits = UUID.nameUUIDFromBytes(consumer.getBytes(StandardCharsets.UTF_8))
+            .getLeastSignificantBits();
+        return new UUID(eventId.getMostSignificantBits(), eventId.getLeastSignificantBits() ^ consumerBits);
+    }
+
+    public boolean isProcessed(String consumer, UUID eventId) {
+        UUID key = inboxKey(consumer, eventId);
+        if (!filter.mightContain(key)) {
+            filteredLookups.increment();
+            return false;
+        }
+        if (repository.existsById(key)) {
+            duplicateLookups.increment();
+            return true;
+        }
+        falsePositiveLookups.increment();
+        return false;
+    }
+
+    /**
+     * Inserts the inbox row in the caller's transaction and adds it to the filter once that
+     * transaction commits. Throws {@link DuplicateEventException} when the row already exists;
+     * a concurrent delivery holding the same key blocks the insert until it commits or rolls back.
+     */
+    public void recordProcessed(String consumer, UUID eventId, String eventType) {
+        InboxEvent event = inboxEvent(consumer, eventId, eventType);
+        try {
+            repository.saveAndFlush(event);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateEventException("Event " + eventId + " was already handled by " + consumer, e);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    filter.put(event.getId());
+                }
+            });
+        } else {
+            filter.put(event.getId());
+        }
+    }
+
+    /**
+     * Records an event whose step had nothing to do (stale or missing request) in a transaction
+     * of its own.
+     */
+    public void markProcessed(String consumer, UUID eventId, String eventType) {
+        InboxEvent event = inboxEvent(consumer, eventId, eventType);
+        try {
+            repository.saveAndFlush(event);
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Event {} was already recorded for {}", eventId, consumer);
+        }
+        filter.put(event.getId());
+    }
+
+    @Scheduled(fixedDelayString = "${messaging.inbox.refresh-interval-ms:1000}")
+    public synchronized void refresh() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<UUID> recent = repository.findIdsProcessedSince(refreshedAt.minus(REFRESH_OVERLAP));
+        UuidBloomFilter current = filter;
+        recent.forEach(current::put);
+        refreshedAt = now;
+    }
+
+    @Scheduled(initialDelayString = "${messaging.inbox.compaction-interval-ms:3600000}",
+               fixedDelayString = "${messaging.inbox.compaction-interval-ms:3600000}")
+    public void compact() {
+        int deleted = repository.deleteProcessedBefore(LocalDateTime.now(clock).minus(retention));
+        log.info("Compacted {} inbox entries older than {}", deleted, retention);
+        // A Bloom filter cannot forget, so start again from the rows that are left
+        rebuild();
+    }
+
+    @PostConstruct
+    synchronized void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+        UuidBloomFilter rebuilt = new UuidBloomFilter(expectedInsertions, falsePositiveRate);
+        long loaded = 0;
+        UUID after = FIRST_KEY;
+        List<UUID> page;
+        do {
+            page = repository.findIdsAfter(after, PageRequest.of(0, REBUILD_PAGE_SIZE));
+            page.forEach(rebuilt::put);
+            loaded += page.size();
+            if (!page.isEmpty()) {
+                after = page.get(page.size() - 1);
+            }
+        } while (page.size() == REBUILD_PAGE_SIZE);
+
+        filter = rebuilt;
+        // Ids recorded into the old filter while this one was loading are in the table; pick them up
+        refreshedAt = startedAt;
+        refresh();
+        log.debug("Rebuilt inbox filter with {} event ids", loaded);
+    }
+
+    private InboxEvent inboxEvent(String consumer, UUID eventId, String eventType) {
+        InboxEvent event = new InboxEvent();
+        event.setId(inboxKey(consumer, eventId));
+        event.setEventId(eventId);
+        event.setConsumer(consumer);
+        event.setEventType(eventType);
+        event.setProcessedAt(LocalDateTime.now(clock));
+        return event;
+    }
+
+    private static Counter lookups(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(LOOKUPS)
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,91 @@
+package com.insurance.infrastructure.messaging.listener;
+
+import com.insurance.infrastructure.messaging.config.PipelineConsumerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs a pipeline step and, when its transaction loses an optimistic-lock race on the policy
+ * request, runs it again. Each attempt runs in a fresh transaction owned by this executor, so
+ * anything the step writes alongside the request (such as its inbox row) commits or rolls back
+ * with it, and a retry reloads the request and re-checks its status instead of holding a row lock. Conflicts, retries and exhausted
+ * attempts are counted per stage as {@code pipeline.step.*} meters.
+ */
+@Component
+@Slf4j
+public class PipelineStepExecutor {
+
+    static final String CONFLICTS = "pipeline.step.conflicts";
+    static final String RETRIES = "pipeline.step.retries";
+    static final String EXHAUSTED = "pipeline.step.conflicts.exhausted";
+
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+    private final long backoffMs;
+
+    public PipelineStepExecutor(PipelineConsumerProperties properties,
+                                MeterRegistry meterRegistry,
+                                PlatformTransactionManager transactionManager) {
+        PipelineConsumerProperties.ConflictRetry conflictRetry = properties.getConflictRetry();
+        if (conflictRetry.getMaxAttempts() < 1) {
+            throw new IllegalArgumentException("messaging.consumers.conflict-retry.max-attempts must be at least 1");
+        }
+        this.meterRegistry = meterRegistry;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxAttempts = conflictRetry.getMaxAttempts();
+        this.backoffMs = Math.max(0, conflictRetry.getBackoffMs());
+    }
+
+    public void run(String stage, UUID policyRequestId, Consumer<UUID> step) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> step.accept(policyRequestId));
+                return;
+            } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                counter(CONFLICTS, stage).increment();
+                if (attempt >= maxAttempts) {
+                    counter(EXHAUSTED, stage).increment();
+                    log.warn("Giving up {} for policy request {} after {} conflicting attempts",
+                             stage, policyRequestId, attempt);
+                    throw e;
+                }
+                counter(RETRIES, stage).increment();
+                log.debug("Policy request {} changed during {}, retrying (attempt {} of {})",
+                          policyRequestId, stage, attempt + 1, maxAttempts);
+                if (!backoff(attempt)) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    // Jittered linear backoff so workers that collided do not collide again on the next attempt
+    private boolean backoff(int attempt) {
+        if (backoffMs == 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(backoffMs * attempt + 1));
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private Counter counter(String name, String stage) {
+        return Counter.builder(name)
+            .tag("stage", stage)
+            .register(meterRegistry);
+    }
+}
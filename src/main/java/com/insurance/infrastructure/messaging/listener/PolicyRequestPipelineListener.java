@@ -0,0 +1,90 @@
+package com.insurance.infrastructure.messaging.listener;
+
+import com.insurance.infrastructure.messaging.config.PipelineListenerConfig;
+import com.insurance.infrastructure.messaging.config.RabbitMQConfig;
+import com.insurance.infrastructure.messaging.dto.PolicyRequestEventMessage;
+import com.insurance.infrastructure.messaging.inbox.DuplicateEventException;
+import com.insurance.infrastructure.messaging.inbox.EventInbox;
+import com.insurance.service.PolicyRequestService;
+import jakarta.persistence.EntityNotFoundException;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drives the policy-request pipeline from its own events: created requests go to fraud
+ * analysis, validated ones to payment and paid ones to subscription. Steps that race another
+ * worker on the same request are re-run by {@link PipelineStepExecutor}, and redelivered
+ * events are dropped through the {@link EventInbox}, whose row commits with the step.
+ */
+@Component
+@ConditionalOnProperty(name = "messaging.consumers.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class PolicyRequestPipelineListener {
+
+    /**
+     * The unsharded queues are not declared when sharding is on; their shard queues are consumed
+     * through {@link ShardedPipelineListenerRegistrar} instead.
+     */
+    static final String UNSHARDED = "#{!${messaging.sharding.enabled:false}}";
+
+    private final PolicyRequestService service;
+    private final PipelineStepExecutor stepExecutor;
+    private final EventInbox inbox;
+
+    @RabbitListener(queues = RabbitMQConfig.POLICY_CREATED_QUEUE,
+                    containerFactory = PipelineListenerConfig.FRAUD_ANALYSIS_FACTORY,
+                    autoStartup = UNSHARDED)
+    public void onPolicyCreated(List<PolicyRequestEventMessage> events) {
+        events.forEach(event -> process("fraud-analysis", event, service::processFraudAnalysis));
+    }
+
+    @RabbitListener(queues = RabbitMQConfig.POLICY_VALIDATED_QUEUE,
+                    containerFactory = PipelineListenerConfig.PAYMENT_FACTORY,
+                    autoStartup = UNSHARDED)
+    public void onPolicyValidated(List<PolicyRequestEventMessage> events) {
+        events.forEach(event -> process("payment", event, service::processPayment));
+    }
+
+    @RabbitListener(queues = RabbitMQConfig.PAYMENT_PROCESSED_QUEUE,
+                    containerFactory = PipelineListenerConfig.SUBSCRIPTION_FACTORY,
+                    autoStartup = UNSHARDED)
+    public void onPaymentProcessed(List<PolicyRequestEventMessage> events) {
+        events.forEach(event -> process("subscription", event, service::processSubscription));
+    }
+
+    private void process(String stage, PolicyRequestEventMessage event, Consumer<UUID> step) {
+        UUID eventId = event.eventId();
+        if (eventId != null && inbox.isProcessed(stage, eventId)) {
+            log.debug("Skipping duplicate {} delivery of event {} for policy request {}",
+                      stage, eventId, event.policyRequestId());
+            return;
+        }
+
+        log.debug("Running {} for policy request {} from {}", stage, event.policyRequestId(), event.eventType());
+        try {
+            stepExecutor.run(stage, event.policyRequestId(), policyRequestId -> {
+                // Same transaction as the step: the inbox primary key is the duplicate check
+                if (eventId != null) {
+                    inbox.recordProcessed(stage, eventId, event.eventType());
+                }
+                step.accept(policyRequestId);
+            });
+        } catch (DuplicateEventException e) {
+            log.debug("Skipping duplicate {} delivery of event {} for policy request {}",
+                      stage, eventId, event.policyRequestId());
+        } catch (IllegalStateException | EntityNotFoundException e) {
+            // Not retryable: the request moved on or no longer exists
+            log.warn("Skipping {} for policy request {}: {}", stage, event.policyRequestId(), e.getMessage());
+            if (eventId != null) {
+                inbox.markProcessed(stage, eventId, event.eventType());
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.insurance.infrastructure.messaging.listener;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurance.infrastructure.messaging.config.PipelineListenerConfig;
+import com.insurance.infrastructure.messaging.config.PipelineShards;
+import com.insurance.infrastructure.messaging.config.RabbitMQConfig;
+import com.insurance.infrastructure.messaging.dto.PolicyRequestEventMessage;
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.BatchMessageListener;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListenerConfigurer;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registers one single-consumer container per owned shard queue and stage, feeding the same
+ * {@link PolicyRequestPipelineListener} methods as the unsharded queues. One consumer per shard
+ * keeps events for a key in order; throughput scales with the number of shards.
+ */
+@Component
+@ConditionalOnProperty(name = "messaging.sharding.enabled", havingValue = "true")
+@Slf4j
+public class ShardedPipelineListenerRegistrar implements RabbitListenerConfigurer {
+
+    private final ObjectProvider<PolicyRequestPipelineListener> pipelineListener;
+    private final PipelineShards shards;
+    private final ObjectMapper objectMapper;
+    private final SimpleRabbitListenerContainerFactory fraudAnalysisFactory;
+    private final SimpleRabbitListenerContainerFactory paymentFactory;
+    private final SimpleRabbitListenerContainerFactory subscriptionFactory;
+
+    public ShardedPipelineListenerRegistrar(
+            ObjectProvider<PolicyRequestPipelineListener> pipelineListener,
+            PipelineShards shards,
+            ObjectMapper objectMapper,
+            @Qualifier(PipelineListenerConfig.FRAUD_ANALYSIS_FACTORY) SimpleRabbitListenerContainerFactory fraudAnalysisFactory,
+            @Qualifier(PipelineListenerConfig.PAYMENT_FACTORY) SimpleRabbitListenerContainerFactory paymentFactory,
+            @Qualifier(PipelineListenerConfig.SUBSCRIPTION_FACTORY) SimpleRabbitListenerContainerFactory subscriptionFactory) {
+        this.pipelineListener = pipelineListener;
+        this.shards = shards;
+        this.objectMapper = objectMapper;
+        this.fraudAnalysisFactory = fraudAnalysisFactory;
+        this.paymentFactory = paymentFactory;
+        this.subscriptionFactory = subscriptionFactory;
+    }
+
+    @Override
+    public void configureRabbitListeners(RabbitListenerEndpointRegistrar registrar) {
+        PolicyRequestPipelineListener listener = pipelineListener.getIfAvailable();
+        if (listener == null) {
+            log.info("Pipeline consumers are disabled; no shard listeners registered");
+            return;
+        }
+        register(registrar, RabbitMQConfig.POLICY_CREATED_QUEUE, fraudAnalysisFactory, listener::onPolicyCreated);
+        register(registrar, RabbitMQConfig.POLICY_VALIDATED_QUEUE, paymentFactory, listener::onPolicyValidated);
+        register(registrar, RabbitMQConfig.PAYMENT_PROCESSED_QUEUE, subscriptionFactory, listener::onPaymentProcessed);
+        log.info("Consuming pipeline shards {} of {}", shards.ownedShards(), shards.getShardCount());
+    }
+
+    private void register(RabbitListenerEndpointRegistrar registrar,
+                          String queue,
+                          SimpleRabbitListenerContainerFactory factory,
+                          Consumer<List<PolicyRequestEventMessage>> handler) {
+        for (int shard : shards.ownedShards()) {
+            String shardQueue = PipelineShards.shardQueue(queue, shard);
+            SimpleRabbitListenerEndpoint endpoint = new SimpleRabbitListenerEndpoint();
+            endpoint.setId(shardQueue);
+            endpoint.setQueueNames(shardQueue);
+            endpoint.setConcurrency("1");
+            endpoint.setMessageListener((BatchMessageListener) messages -> handler.accept(toEvents(messages)));
+            registrar.registerEndpoint(endpoint, factory);
+        }
+    }
+
+    List<PolicyRequestEventMessage> toEvents(List<Message> messages) {
+        return messages.stream().map(this::toEvent).toList();
+    }
+
+    private PolicyRequestEventMessage toEvent(Message message) {
+        try {
+            return objectMapper.readValue(message.getBody(), PolicyRequestEventMessage.class);
+        } catch (IOException e) {
+            throw new MessageConversionException("Could not read pipeline event "
+                + message.getMessageProperties().getMessageId(), e);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.insurance.infrastructure.messaging.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends batches of messages over a single channel with correlated publisher confirms.
+ * Confirms are tracked asynchronously per message and the number of unconfirmed
+ * messages is capped by {@code messaging.publisher.max-in-flight}.
+ */
+@Component
+@Slf4j
+public class ConfirmingPublisher {
+
+    private final RabbitTemplate rabbitTemplate;
+    private final Semaphore inFlight;
+    private final Timer confirmLatency;
+    private final Counter acks;
+    private final Counter nacks;
+    private final Counter returned;
+
+    public ConfirmingPublisher(RabbitTemplate rabbitTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${messaging.publisher.max-in-flight:2000}") int maxInFlight) {
+        this.rabbitTemplate = rabbitTemplate;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.confirmLatency = Timer.builder("messaging.publisher.confirm.latency")
+            .description("Time between sending a message and receiving its broker confirm")
+            .register(meterRegistry);
+        this.acks = Counter.builder("messaging.publisher.confirms").tag("result", "ack").register(meterRegistry);
+        this.nacks = Counter.builder("messaging.publisher.confirms").tag("result", "nack").register(meterRegistry);
+        this.returned = Counter.builder("messaging.publisher.returned")
+            .description("Messages returned by the broker as unroutable")
+            .register(meterRegistry);
+        Gauge.builder("messaging.publisher.in.flight", inFlight, permits -> maxInFlight - permits.availablePermits())
+            .description("Messages sent and still waiting for a confirm")
+            .register(meterRegistry);
+
+        rabbitTemplate.setReturnsCallback(message -> {
+            returned.increment();
+            log.warn("Message returned by broker: exchange={}, routingKey={}, replyText={}",
+                     message.getExchange(), message.getRoutingKey(), message.getReplyText());
+        });
+    }
+
+    /**
+     * Sends all messages on one channel and returns one future per message, completed
+     * with {@code true} on ack and {@code false} on nack or return.
+     */
+    public List<CompletableFuture<Boolean>> sendBatch(List<OutboundMessage> batch) {
+        List<CompletableFuture<Boolean>> confirms = new ArrayList<>(batch.size());
+        rabbitTemplate.invoke(operations -> {
+            batch.forEach(outbound -> confirms.add(send(operations, outbound)));
+            return null;
+        });
+        return confirms;
+    }
+
+    private CompletableFuture<Boolean> send(RabbitOperations operations, OutboundMessage outbound) {
+        acquirePermit();
+        String correlationId = outbound.message().getMessageProperties().getMessageId();
+        CorrelationData correlation = new CorrelationData(correlationId != null ? correlationId : UUID.randomUUID().toString());
+        long start = System.nanoTime();
+
+        CompletableFuture<Boolean> result = correlation.getFuture().handle((confirm, error) -> {
+            inFlight.release();
+            confirmLatency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (error != null || !confirm.isAck()) {
+                nacks.increment();
+                log.warn("Message {} was not confirmed: {}", correlation.getId(),
+                         error != null ? error.getMessage() : confirm.getReason());
+                return false;
+            }
+            acks.increment();
+            return correlation.getReturned() == null;
+        });
+
+        try {
+            operations.send(outbound.exchange(), outbound.routingKey(), outbound.message(), correlation);
+        } catch (AmqpException e) {
+            correlation.getFuture().completeExceptionally(e);
+        }
+        return result;
+    }
+
+    private void acquirePermit() {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for publisher confirms", e);
+        }
+    }
+
+    public record OutboundMessage(String exchange, String routingKey, Message message) {}
+}
@@ -1,9 +1,18 @@
 package com.insurance.infrastructure.messaging.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurance.domain.OutboxEvent;
 import com.insurance.event.PolicyRequestEvent;
+import com.insurance.infrastructure.messaging.config.PipelineShards;
+import com.insurance.repository.OutboxEventRepository;
+import java.util.List;
+import java.util.OptionalInt;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -12,10 +21,74 @@ import org.springframework.stereotype.Service;
 public class EventPublisher {
 
     private final RabbitTemplate rabbitTemplate;
+    private final OutboxEventRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final PipelineShards shards;
+
+    /**
+     * When enabled, events are written to the outbox table in the caller's transaction
+     * and handed to the broker by {@link OutboxRelay}. The publish methods are deliberately not
+     * transactional themselves: the outbox write is a single repository call that joins the
+     * caller's transaction, and direct sends never touch the database.
+     */
+    @Value("${messaging.outbox.enabled:false}")
+    private boolean outboxEnabled;
 
     public void publish(String exchange, String routingKey, PolicyRequestEvent event) {
+        if (outboxEnabled) {
+            log.debug("Storing event {} in outbox for exchange {} with routing key {}",
+                      event.getEventType(), exchange, routingKey);
+            outboxRepository.save(toOutboxEvent(exchange, routingKey, event));
+            return;
+        }
         log.info("Publishing event {} to exchange {} with routing key {}", 
                  event.getEventType(), exchange, routingKey);
-        rabbitTemplate.convertAndSend(exchange, routingKey, event);
+        send(rabbitTemplate, exchange, routingKey, event);
+    }
+
+    public void publishAll(String exchange, String routingKey, List<? extends PolicyRequestEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        if (outboxEnabled) {
+            log.debug("Storing {} events in outbox for exchange {} with routing key {}",
+                      events.size(), exchange, routingKey);
+            outboxRepository.saveAll(events.stream()
+                .map(event -> toOutboxEvent(exchange, routingKey, event))
+                .toList());
+            return;
+        }
+        log.info("Publishing {} events to exchange {} with routing key {}",
+                 events.size(), exchange, routingKey);
+        rabbitTemplate.invoke(operations -> {
+            events.forEach(event -> send(operations, exchange, routingKey, event));
+            return null;
+        });
+    }
+
+    private void send(RabbitOperations operations, String exchange, String routingKey, PolicyRequestEvent event) {
+        OptionalInt shard = shards.shardOf(event);
+        if (shard.isEmpty()) {
+            operations.convertAndSend(exchange, routingKey, event);
+            return;
+        }
+        operations.convertAndSend(exchange, routingKey, event, message -> {
+            message.getMessageProperties().setHeader(PipelineShards.SHARD_HEADER, String.valueOf(shard.getAsInt()));
+            return message;
+        });
+    }
+
+    private OutboxEvent toOutboxEvent(String exchange, String routingKey, PolicyRequestEvent event) {
+        OutboxEvent outboxEvent = new OutboxEvent();
+        outboxEvent.setExchange(exchange);
+        outboxEvent.setRoutingKey(routingKey);
+        outboxEvent.setEventType(event.getClass().getName());
+        shards.shardOf(event).ifPresent(outboxEvent::setShard);
+        try {
+            outboxEvent.setPayload(objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize event " + event.getEventType(), e);
+        }
+        return outboxEvent;
     }
-} 
\ No newline at end of file
+}
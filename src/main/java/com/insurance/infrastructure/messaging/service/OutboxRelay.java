@@ -0,0 +1,111 @@
+package com.insurance.infrastructure.messaging.service;
+
+import com.insurance.domain.OutboxEvent;
+import com.insurance.infrastructure.messaging.config.PipelineShards;
+import com.insurance.repository.OutboxEventRepository;
+import com.insurance.infrastructure.messaging.service.ConfirmingPublisher.OutboundMessage;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Drains the outbox table to RabbitMQ in batches. Confirms for a batch are collected
+ * asynchronously and only acknowledged rows are deleted, so anything nacked, returned
+ * or timed out stays in place for the next run (at-least-once handoff; consumers must
+ * tolerate duplicates).
+ */
+@Component
+@ConditionalOnProperty(name = "messaging.outbox.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class OutboxRelay {
+
+    static final String TYPE_ID_HEADER = "__TypeId__";
+
+    private final OutboxEventRepository repository;
+    private final ConfirmingPublisher publisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${messaging.outbox.batch-size:500}")
+    private int batchSize;
+
+    @Value("${messaging.outbox.confirm-timeout-ms:5000}")
+    private long confirmTimeoutMs;
+
+    @Scheduled(fixedDelayString = "${messaging.outbox.poll-interval-ms:200}")
+    public void relay() {
+        Integer relayed;
+        do {
+            relayed = transactionTemplate.execute(status -> relayBatch());
+        } while (relayed != null && relayed == batchSize);
+    }
+
+    int relayBatch() {
+        List<OutboxEvent> batch = repository.findNextBatch(PageRequest.of(0, batchSize));
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        List<CompletableFuture<Boolean>> confirms = publisher.sendBatch(batch.stream()
+            .map(event -> new OutboundMessage(event.getExchange(), event.getRoutingKey(), toMessage(event)))
+            .toList());
+        awaitConfirms(confirms);
+
+        List<OutboxEvent> confirmed = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            CompletableFuture<Boolean> confirm = confirms.get(i);
+            if (confirm.isDone() && !confirm.isCompletedExceptionally() && confirm.join()) {
+                confirmed.add(batch.get(i));
+            }
+        }
+        repository.deleteAllInBatch(confirmed);
+
+        if (confirmed.size() < batch.size()) {
+            log.warn("{} of {} outbox events were not confirmed and will be retried",
+                     batch.size() - confirmed.size(), batch.size());
+        }
+        log.debug("Relayed {} outbox events", confirmed.size());
+        return confirmed.size();
+    }
+
+    private void awaitConfirms(List<CompletableFuture<Boolean>> confirms) {
+        try {
+            CompletableFuture.allOf(confirms.toArray(CompletableFuture[]::new))
+                .get(confirmTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Timed out after {} ms waiting for publisher confirms", confirmTimeoutMs);
+        } catch (ExecutionException e) {
+            log.warn("Publisher confirm failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Message toMessage(OutboxEvent event) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        properties.setMessageId(event.getId().toString());
+        properties.setHeader(TYPE_ID_HEADER, event.getEventType());
+        if (event.getShard() != null) {
+            properties.setHeader(PipelineShards.SHARD_HEADER, event.getShard().toString());
+        }
+        return new Message(event.getPayload().getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
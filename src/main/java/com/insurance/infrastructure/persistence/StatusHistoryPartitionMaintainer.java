@@ -0,0 +1,55 @@
+package com.insurance.infrastructure.persistence;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Keeps monthly partitions of {@code status_history} created ahead of time. The partitioned
+ * table itself is set up by db/migration/status_history_partitioning.sql; there is no default
+ * partition, so a month must exist before rows for it are inserted.
+ */
+@Component
+@ConditionalOnProperty(name = "status-history.partitioning.enabled", havingValue = "true")
+@Slf4j
+public class StatusHistoryPartitionMaintainer {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+
+    public StatusHistoryPartitionMaintainer(JdbcTemplate jdbcTemplate,
+                                            @Value("${status-history.partitioning.months-ahead:3}") int monthsAhead) {
+        if (monthsAhead < 0) {
+            throw new IllegalArgumentException("status-history.partitioning.months-ahead cannot be negative");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${status-history.partitioning.check-interval-ms:3600000}")
+    public void ensurePartitions() {
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            try {
+                jdbcTemplate.execute(partitionDdl(month));
+            } catch (DataAccessException e) {
+                log.error("Could not create status_history partition for {}", month, e);
+            }
+        }
+    }
+
+    static String partitionDdl(YearMonth month) {
+        return "CREATE TABLE IF NOT EXISTS status_history_" + month.format(SUFFIX)
+            + " PARTITION OF status_history FOR VALUES FROM ('" + month.atDay(1)
+            + "') TO ('" + month.plusMonths(1).atDay(1) + "')";
+    }
+}
@@ -0,0 +1,18 @@
+package com.insurance.infrastructure.persistence.id;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Marks an id attribute as generated by {@link TimeOrderedUuidIdentifierGenerator}.
+ */
+@IdGeneratorType(TimeOrderedUuidIdentifierGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface TimeOrderedUuid {
+}
@@ -0,0 +1,41 @@
+package com.insurance.repository;
+
+import com.insurance.domain.IdempotencyRecord;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, UUID> {
+
+    @Transactional
+    @Modifying
+    @Query("update IdempotencyRecord r set r.completed = true, r.responseStatus = :status, "
+         + "r.contentType = :contentType, r.responseBody = :body, r.expiresAt = :expiresAt "
+         + "where r.id = :id and r.completed = false")
+    int complete(@Param("id") UUID id,
+                 @Param("status") int status,
+                 @Param("contentType") String contentType,
+                 @Param("body") byte[] body,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.id = :id and r.completed = false")
+    int deleteClaim(@Param("id") UUID id);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.id = :id and r.expiresAt <= :now")
+    int deleteIfExpired(@Param("id") UUID id, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from IdempotencyRecord r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
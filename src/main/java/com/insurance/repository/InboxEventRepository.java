@@ -0,0 +1,31 @@
+package com.insurance.repository;
+
+import com.insurance.domain.InboxEvent;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface InboxEventRepository extends JpaRepository<InboxEvent, UUID> {
+
+    /**
+     * Keyset page over all recorded ids, used to rebuild the in-memory filter.
+     */
+    @Query("select e.id from InboxEvent e where e.id > :after order by e.id")
+    List<UUID> findIdsAfter(@Param("after") UUID after, Pageable pageable);
+
+    @Query("select e.id from InboxEvent e where e.processedAt > :since")
+    List<UUID> findIdsProcessedSince(@Param("since") LocalDateTime since);
+
+    @Transactional
+    @Modifying
+    @Query("delete from InboxEvent e where e.processedAt < :cutoff")
+    int deleteProcessedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
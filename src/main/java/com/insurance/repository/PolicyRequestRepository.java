@@ -1,12 +1,51 @@
 package com.insurance.repository;
 
 import com.insurance.domain.PolicyRequest;
+import com.insurance.domain.RiskAnalysis;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface PolicyRequestRepository extends JpaRepository<PolicyRequest, UUID> {
-    List<PolicyRequest> findByCustomerId(UUID customerId);
-} 
\ No newline at end of file
+    @Query("select p from PolicyRequest p left join fetch p.riskAnalysis where p.customerId = :customerId")
+    List<PolicyRequest> findByCustomerId(@Param("customerId") UUID customerId);
+
+    @Query("select p from PolicyRequest p left join fetch p.riskAnalysis "
+         + "where p.customerId = :customerId order by p.createdAt, p.id")
+    List<PolicyRequest> findFirstPageByCustomerId(@Param("customerId") UUID customerId, Pageable pageable);
+
+    @Query("select p from PolicyRequest p left join fetch p.riskAnalysis "
+         + "where p.customerId = :customerId "
+         + "and (p.createdAt > :createdAt or (p.createdAt = :createdAt and p.id > :id)) "
+         + "order by p.createdAt, p.id")
+    List<PolicyRequest> findPageByCustomerIdAfter(@Param("customerId") UUID customerId,
+                                                  @Param("createdAt") LocalDateTime createdAt,
+                                                  @Param("id") UUID id,
+                                                  Pageable pageable);
+
+    /**
+     * Reads a customer's requests through a JDBC cursor. Must be consumed and closed inside a
+     * transaction.
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select p from PolicyRequest p left join fetch p.riskAnalysis "
+         + "where p.customerId = :customerId order by p.createdAt, p.id")
+    Stream<PolicyRequest> streamByCustomerId(@Param("customerId") UUID customerId);
+
+    @Query("select r from PolicyRequest p join p.riskAnalysis r "
+         + "where p.customerId = :customerId and r.provisional = false order by r.analyzedAt desc")
+    List<RiskAnalysis> findRiskAnalysesByCustomerId(@Param("customerId") UUID customerId, Pageable pageable);
+}
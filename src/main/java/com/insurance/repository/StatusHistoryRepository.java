@@ -0,0 +1,35 @@
+package com.insurance.repository;
+
+import com.insurance.domain.StatusHistory;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface StatusHistoryRepository extends JpaRepository<StatusHistory, UUID> {
+    List<StatusHistory> findByPolicyRequestIdOrderByChangedAtDesc(UUID policyRequestId, Pageable pageable);
+
+    /**
+     * Latest {@code limit} entries of each request, newest first. The per-request window is
+     * served by idx_status_history_request_changed, so listings stay bounded however long a
+     * request's history grows.
+     */
+    @Query(value = "select ranked.* from ("
+         + "select h.*, row_number() over (partition by h.policy_request_id order by h.changed_at desc) as rn "
+         + "from status_history h where h.policy_request_id in (:policyRequestIds)"
+         + ") ranked where ranked.rn <= :limit order by ranked.changed_at desc", nativeQuery = true)
+    List<StatusHistory> findLatestByPolicyRequestIdIn(@Param("policyRequestIds") Collection<UUID> policyRequestIds,
+                                                      @Param("limit") int limit);
+
+    @Query(value = "select ranked.* from ("
+         + "select h.*, row_number() over (partition by h.policy_request_id order by h.changed_at desc) as rn "
+         + "from status_history h where h.policy_request_id in "
+         + "(select p.id from policy_requests p where p.customer_id = :customerId)"
+         + ") ranked where ranked.rn <= :limit order by ranked.changed_at desc", nativeQuery = true)
+    List<StatusHistory> findLatestByCustomerId(@Param("customerId") UUID customerId, @Param("limit") int limit);
+}
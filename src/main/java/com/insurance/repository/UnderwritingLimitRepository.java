@@ -0,0 +1,12 @@
+package com.insurance.repository;
+
+import com.insurance.domain.UnderwritingLimit;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UnderwritingLimitRepository extends JpaRepository<UnderwritingLimit, UUID> {
+    List<UnderwritingLimit> findByActiveTrue();
+}
@@ -6,6 +6,9 @@ import com.insurance.domain.RiskAnalysis;
 public interface FraudAnalysisService {
     /**
      * Analisa o risco de fraude para uma solicitação
+     *
+     * @throws com.insurance.infrastructure.client.FraudProviderUnavailableException
+     *         se o provedor de fraude não pôde ser chamado (circuito aberto ou bulkhead cheio)
      */
     RiskAnalysis analyzeFraud(PolicyRequest request);
 } 
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.insurance.service;
+
+import com.insurance.dto.PolicyRequestBatchResultDTO;
+import com.insurance.dto.PolicyRequestDTO;
+import java.util.List;
+
+public interface PolicyRequestBatchService {
+    /**
+     * Validates and creates a batch of policy requests in a single transaction.
+     * Each item gets its own result, so an invalid item does not fail the whole batch.
+     */
+    List<PolicyRequestBatchResultDTO> createBatch(List<PolicyRequestDTO> requests);
+}
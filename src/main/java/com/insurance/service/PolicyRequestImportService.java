@@ -0,0 +1,12 @@
+package com.insurance.service;
+
+import com.insurance.dto.PolicyRequestImportResultDTO;
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface PolicyRequestImportService {
+    /**
+     * Streams newline-delimited JSON policy requests from the input and creates them in bounded chunks
+     */
+    PolicyRequestImportResultDTO importNdjson(InputStream input) throws IOException;
+}
@@ -2,9 +2,12 @@ package com.insurance.service;
 
 import com.insurance.domain.PolicyRequest;
 import com.insurance.domain.enums.PolicyRequestStatus;
+import com.insurance.dto.PolicyRequestCursor;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface PolicyRequestService {
     /**
@@ -12,16 +15,38 @@ public interface PolicyRequestService {
      */
     PolicyRequest createPolicyRequest(PolicyRequest request);
 
+    /**
+     * Creates several policy requests in a single transaction
+     */
+    List<PolicyRequest> createPolicyRequests(List<PolicyRequest> requests);
+
     /**
      * Finds a policy request by its ID
      */
     PolicyRequest findById(UUID id);
 
+    /**
+     * Finds a policy request by its ID with its most recent status history attached
+     */
+    PolicyRequest findWithHistoryById(UUID id);
+
     /**
      * Finds all policy requests for a given customer
      */
     List<PolicyRequest> findByCustomerId(UUID customerId);
 
+    /**
+     * Finds up to {@code size} policy requests for a customer after the given cursor, ordered by
+     * creation time and id. A null cursor starts from the beginning
+     */
+    Slice<PolicyRequest> findPageByCustomerId(UUID customerId, PolicyRequestCursor after, int size);
+
+    /**
+     * Passes every policy request of a customer to the consumer, in creation order, without
+     * holding the whole listing in memory
+     */
+    void streamByCustomerId(UUID customerId, Consumer<PolicyRequest> consumer);
+
     /**
      * Updates the status of a policy request
      */
@@ -3,17 +3,28 @@ package com.insurance.service.impl;
 import com.insurance.domain.PolicyRequest;
 import com.insurance.domain.RiskAnalysis;
 import com.insurance.domain.RiskOccurrence;
+import com.insurance.domain.enums.CustomerRiskType;
 import com.insurance.service.FraudAnalysisService;
+import com.insurance.service.scoring.LocalRiskScoringEngine;
+import com.insurance.infrastructure.client.FraudAnalysisBatcher;
+import com.insurance.infrastructure.client.FraudAnalysisCache;
 import com.insurance.infrastructure.client.FraudAnalysisClient;
+import com.insurance.infrastructure.client.FraudProviderGuard;
+import com.insurance.infrastructure.client.FraudProviderUnavailableException;
 import com.insurance.infrastructure.client.dto.FraudAnalysisResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.ResourceAccessException;
 
+import java.net.SocketTimeoutException;
+import java.net.http.HttpTimeoutException;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 @RequiredArgsConstructor
@@ -21,26 +32,82 @@ import java.util.List;
 public class FraudAnalysisServiceImpl implements FraudAnalysisService {
 
     private final FraudAnalysisClient fraudAnalysisClient;
+    private final FraudAnalysisCache fraudAnalysisCache;
+    private final FraudAnalysisBatcher fraudAnalysisBatcher;
+    private final FraudProviderGuard fraudProviderGuard;
+    private final LocalRiskScoringEngine localRiskScoringEngine;
+
+    @Value("${fraud.batch.enabled:false}")
+    private boolean batchEnabled;
+
+    @Value("${fraud.fallback.enabled:false}")
+    private boolean fallbackEnabled;
 
     @Override
-    @Transactional
     public RiskAnalysis analyzeFraud(PolicyRequest request) {
         validateRequest(request);
 
+        var cached = fraudAnalysisCache.get(request.getCustomerId());
+        if (cached.isPresent()) {
+            log.info("Using cached fraud analysis for policy request: {}", request.getId());
+            return toRiskAnalysis(cached.get().classification(), cached.get().analyzedAt(),
+                cached.get().occurrences());
+        }
+
         log.info("Starting fraud analysis for policy request: {}", request.getId());
 
-        FraudAnalysisResponse response = fraudAnalysisClient.analyzeFraud(
-            request.getId(),
-            request.getCustomerId()
-        );
+        FraudAnalysisResponse response;
+        try {
+            response = fraudProviderGuard.call(() -> batchEnabled
+                ? await(fraudAnalysisBatcher.submit(request.getId(), request.getCustomerId()))
+                : fraudAnalysisClient.analyzeFraud(request.getId(), request.getCustomerId()));
+        } catch (RuntimeException e) {
+            if (fallbackEnabled && isProviderUnavailable(e)) {
+                log.warn("Fraud provider unavailable for policy request {}, using local scoring: {}",
+                         request.getId(), e.getMessage());
+                return localRiskScoringEngine.score(request);
+            }
+            throw e;
+        }
 
         validateResponse(response);
 
-        RiskAnalysis riskAnalysis = new RiskAnalysis();
-        riskAnalysis.setClassification(response.getClassification());
-        riskAnalysis.setAnalyzedAt(response.getAnalyzedAt());
-        riskAnalysis.setOccurrences(mapOccurrences(response.getOccurrences()));
+        RiskAnalysis riskAnalysis = toRiskAnalysis(response.getClassification(), response.getAnalyzedAt(),
+            response.getOccurrences());
+        fraudAnalysisCache.put(request.getCustomerId(), response);
+
+        return riskAnalysis;
+    }
+
+    private boolean isProviderUnavailable(Throwable error) {
+        for (Throwable current = error; current != null; current = current.getCause()) {
+            if (current instanceof FraudProviderUnavailableException
+                || current instanceof ResourceAccessException
+                || current instanceof HttpTimeoutException
+                || current instanceof SocketTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
 
+    private FraudAnalysisResponse await(CompletableFuture<FraudAnalysisResponse> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Fraud analysis failed", e.getCause());
+        }
+    }
+
+    private RiskAnalysis toRiskAnalysis(CustomerRiskType classification, LocalDateTime analyzedAt,
+                                        List<FraudAnalysisResponse.RiskOccurrenceResponse> occurrences) {
+        RiskAnalysis riskAnalysis = new RiskAnalysis();
+        riskAnalysis.setClassification(classification);
+        riskAnalysis.setAnalyzedAt(analyzedAt);
+        riskAnalysis.setOccurrences(mapOccurrences(occurrences));
         return riskAnalysis;
     }
 
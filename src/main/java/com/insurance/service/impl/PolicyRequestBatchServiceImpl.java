@@ -0,0 +1,95 @@
+package com.insurance.service.impl;
+
+import com.insurance.domain.PolicyRequest;
+import com.insurance.dto.PolicyRequestBatchResultDTO;
+import com.insurance.dto.PolicyRequestDTO;
+import com.insurance.mapper.PolicyRequestMapper;
+import com.insurance.service.PolicyRequestBatchService;
+import com.insurance.service.PolicyRequestService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PolicyRequestBatchServiceImpl implements PolicyRequestBatchService {
+
+    private final PolicyRequestService policyRequestService;
+    private final PolicyRequestMapper mapper;
+    private final Validator validator;
+
+    @Value("${policy.batch.max-size:1000}")
+    private int maxBatchSize;
+
+    @Override
+    public List<PolicyRequestBatchResultDTO> createBatch(List<PolicyRequestDTO> requests) {
+        validateBatch(requests);
+
+        List<PolicyRequestBatchResultDTO> results = new ArrayList<>(requests.size());
+        List<PolicyRequest> accepted = new ArrayList<>(requests.size());
+        List<PolicyRequestBatchResultDTO> acceptedResults = new ArrayList<>(requests.size());
+
+        for (int i = 0; i < requests.size(); i++) {
+            PolicyRequestBatchResultDTO result = new PolicyRequestBatchResultDTO();
+            result.setIndex(i);
+            results.add(result);
+
+            PolicyRequestDTO dto = requests.get(i);
+            String error = validateItem(dto);
+            if (error != null) {
+                result.setError(error);
+                continue;
+            }
+
+            try {
+                accepted.add(mapper.toEntity(dto));
+                acceptedResults.add(result);
+            } catch (IllegalArgumentException e) {
+                result.setError(e.getMessage());
+            }
+        }
+
+        log.info("Batch of {} policy requests: {} accepted, {} rejected",
+                 requests.size(), accepted.size(), requests.size() - accepted.size());
+
+        if (!accepted.isEmpty()) {
+            List<PolicyRequest> created = policyRequestService.createPolicyRequests(accepted);
+            for (int i = 0; i < created.size(); i++) {
+                acceptedResults.get(i).setPolicyRequest(mapper.toDTO(created.get(i)));
+            }
+        }
+
+        return results;
+    }
+
+    private void validateBatch(List<PolicyRequestDTO> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("Batch must contain at least one policy request");
+        }
+        if (requests.size() > maxBatchSize) {
+            throw new IllegalArgumentException("Batch size " + requests.size() + " exceeds the maximum of " + maxBatchSize);
+        }
+    }
+
+    private String validateItem(PolicyRequestDTO dto) {
+        if (dto == null) {
+            return "Policy request cannot be null";
+        }
+        Set<ConstraintViolation<PolicyRequestDTO>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .map(ConstraintViolation::getMessage)
+            .sorted()
+            .collect(Collectors.joining("; "));
+    }
+}
@@ -0,0 +1,112 @@
+package com.insurance.service.impl;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.insurance.dto.PolicyRequestBatchResultDTO;
+import com.insurance.dto.PolicyRequestDTO;
+import com.insurance.dto.PolicyRequestImportResultDTO;
+import com.insurance.service.PolicyRequestBatchService;
+import com.insurance.service.PolicyRequestImportService;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PolicyRequestImportServiceImpl implements PolicyRequestImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final PolicyRequestBatchService batchService;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+
+    @Value("${policy.import.chunk-size:500}")
+    private int chunkSize;
+
+    @Override
+    public PolicyRequestImportResultDTO importNdjson(InputStream input) throws IOException {
+        PolicyRequestImportResultDTO result = new PolicyRequestImportResultDTO();
+        List<PolicyRequestDTO> chunk = new ArrayList<>(chunkSize);
+        long chunkStart = 1;
+
+        ObjectReader reader = objectMapper.readerFor(PolicyRequestDTO.class);
+        try (JsonParser parser = objectMapper.getFactory().createParser(input);
+             MappingIterator<PolicyRequestDTO> records = reader.readValues(parser)) {
+            while (true) {
+                PolicyRequestDTO record;
+                try {
+                    if (!records.hasNextValue()) {
+                        break;
+                    }
+                    record = records.nextValue();
+                } catch (JsonProcessingException e) {
+                    long line = result.getReceived() + 1;
+                    result.setReceived(line);
+                    result.setFailed(result.getFailed() + 1);
+                    addError(result, line, e.getOriginalMessage());
+                    if (!isRecoverable(e)) {
+                        log.warn("Stopping NDJSON import at record {}: {}", line, e.getOriginalMessage());
+                        break;
+                    }
+                    continue;
+                }
+
+                result.setReceived(result.getReceived() + 1);
+                if (chunk.isEmpty()) {
+                    chunkStart = result.getReceived();
+                }
+                chunk.add(record);
+                if (chunk.size() >= chunkSize) {
+                    flush(chunk, chunkStart, result);
+                }
+            }
+        }
+        flush(chunk, chunkStart, result);
+
+        log.info("NDJSON import finished: {} received, {} imported, {} failed",
+                 result.getReceived(), result.getImported(), result.getFailed());
+        return result;
+    }
+
+    private void flush(List<PolicyRequestDTO> chunk, long chunkStart, PolicyRequestImportResultDTO result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        for (PolicyRequestBatchResultDTO item : batchService.createBatch(chunk)) {
+            if (item.isSuccess()) {
+                result.setImported(result.getImported() + 1);
+            } else {
+                result.setFailed(result.getFailed() + 1);
+                addError(result, chunkStart + item.getIndex(), item.getError());
+            }
+        }
+        log.debug("Imported chunk of {} policy requests starting at record {}", chunk.size(), chunkStart);
+        chunk.clear();
+        // Under open-in-view the whole import shares one persistence context; drop the committed
+        // chunk so memory and dirty checking stay bounded by the chunk size
+        entityManager.clear();
+    }
+
+    private boolean isRecoverable(JsonProcessingException e) {
+        // Databind errors leave the parser at a value boundary; syntax errors do not
+        return !(e instanceof JsonParseException);
+    }
+
+    private void addError(PolicyRequestImportResultDTO result, long line, String message) {
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            result.getErrors().add("record " + line + ": " + message);
+        }
+    }
+}
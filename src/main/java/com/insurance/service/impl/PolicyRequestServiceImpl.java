@@ -1,24 +1,40 @@
 package com.insurance.service.impl;
 
 import com.insurance.domain.PolicyRequest;
-import com.insurance.domain.RiskAnalysis;
+import com.insurance.domain.StatusHistory;
 import com.insurance.domain.enums.CustomerRiskType;
-import com.insurance.domain.enums.InsuranceCategory;
 import com.insurance.domain.enums.PolicyRequestStatus;
 import com.insurance.event.*;
+import com.insurance.infrastructure.client.FraudProviderUnavailableException;
+import com.insurance.infrastructure.messaging.config.PolicyRequestEventRoutes;
 import com.insurance.infrastructure.messaging.config.RabbitMQConfig;
 import com.insurance.infrastructure.messaging.service.EventPublisher;
 import com.insurance.repository.PolicyRequestRepository;
+import com.insurance.repository.StatusHistoryRepository;
 import com.insurance.service.FraudAnalysisService;
 import com.insurance.service.PaymentService;
 import com.insurance.service.PolicyRequestService;
 import com.insurance.service.SubscriptionService;
+import com.insurance.service.underwriting.UnderwritingRule;
+import com.insurance.service.underwriting.UnderwritingRuleEngine;
+import com.insurance.dto.PolicyRequestCursor;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
-import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,10 +44,22 @@ import org.springframework.transaction.annotation.Transactional;
 public class PolicyRequestServiceImpl implements PolicyRequestService {
 
     private final PolicyRequestRepository repository;
+    private final StatusHistoryRepository statusHistoryRepository;
     private final FraudAnalysisService fraudAnalysisService;
     private final PaymentService paymentService;
     private final SubscriptionService subscriptionService;
     private final EventPublisher eventPublisher;
+    private final UnderwritingRuleEngine underwritingRuleEngine;
+    private final EntityManager entityManager;
+
+    @Value("${policy.listing.max-page-size:200}")
+    private int maxPageSize;
+
+    @Value("${policy.listing.stream-chunk-size:500}")
+    private int streamChunkSize;
+
+    @Value("${policy.history.max-entries:50}")
+    private int maxHistoryEntries;
 
     @Override
     @Transactional
@@ -48,6 +76,21 @@ public class PolicyRequestServiceImpl implements PolicyRequestService {
         return request;
     }
 
+    @Override
+    @Transactional
+    public List<PolicyRequest> createPolicyRequests(List<PolicyRequest> requests) {
+        requests.forEach(request -> request.setStatus(PolicyRequestStatus.RECEIVED));
+        List<PolicyRequest> saved = repository.saveAll(requests);
+
+        eventPublisher.publishAll(
+            RabbitMQConfig.POLICY_EVENTS_EXCHANGE,
+            RabbitMQConfig.POLICY_CREATED_KEY,
+            saved.stream().map(PolicyRequestCreatedEvent::new).toList()
+        );
+
+        return saved;
+    }
+
     @Override
     public PolicyRequest findById(UUID id) {
         return repository.findById(id)
@@ -55,65 +98,135 @@ public class PolicyRequestServiceImpl implements PolicyRequestService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public PolicyRequest findWithHistoryById(UUID id) {
+        PolicyRequest request = findById(id);
+        request.setStatusHistory(new ArrayList<>(statusHistoryRepository.findByPolicyRequestIdOrderByChangedAtDesc(
+            id, PageRequest.of(0, maxHistoryEntries))));
+        return request;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<PolicyRequest> findByCustomerId(UUID customerId) {
-        return repository.findByCustomerId(customerId);
+        List<PolicyRequest> requests = repository.findByCustomerId(customerId);
+        if (!requests.isEmpty()) {
+            attachStatusHistory(requests, statusHistoryRepository.findLatestByCustomerId(customerId, maxHistoryEntries));
+        }
+        return requests;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<PolicyRequest> findPageByCustomerId(UUID customerId, PolicyRequestCursor after, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Page size must be greater than zero");
+        }
+        int pageSize = Math.min(size, maxPageSize);
+        PageRequest lookahead = PageRequest.of(0, pageSize + 1);
+
+        List<PolicyRequest> rows = after == null
+            ? repository.findFirstPageByCustomerId(customerId, lookahead)
+            : repository.findPageByCustomerIdAfter(customerId, after.createdAt(), after.id(), lookahead);
+
+        boolean hasNext = rows.size() > pageSize;
+        List<PolicyRequest> content = hasNext ? rows.subList(0, pageSize) : rows;
+        loadStatusHistory(content);
+        return new SliceImpl<>(content, PageRequest.of(0, pageSize), hasNext);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamByCustomerId(UUID customerId, Consumer<PolicyRequest> consumer) {
+        List<PolicyRequest> chunk = new ArrayList<>(streamChunkSize);
+        try (Stream<PolicyRequest> rows = repository.streamByCustomerId(customerId)) {
+            Iterator<PolicyRequest> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() >= streamChunkSize) {
+                    emit(chunk, consumer);
+                }
+            }
+        }
+        emit(chunk, consumer);
+    }
+
+    private void emit(List<PolicyRequest> chunk, Consumer<PolicyRequest> consumer) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        loadStatusHistory(chunk);
+        chunk.forEach(consumer);
+        chunk.clear();
+        // Drop emitted rows from the persistence context so memory stays bounded by the chunk size
+        entityManager.clear();
+    }
+
+    private void loadStatusHistory(List<PolicyRequest> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
+        List<UUID> ids = requests.stream().map(PolicyRequest::getId).toList();
+        attachStatusHistory(requests, statusHistoryRepository.findLatestByPolicyRequestIdIn(ids, maxHistoryEntries));
+    }
+
+    private void attachStatusHistory(List<PolicyRequest> requests, List<StatusHistory> history) {
+        Map<UUID, List<StatusHistory>> byRequest = history.stream()
+            .collect(Collectors.groupingBy(StatusHistory::getPolicyRequestId));
+        for (PolicyRequest request : requests) {
+            request.setStatusHistory(new ArrayList<>(byRequest.getOrDefault(request.getId(), Collections.emptyList())));
+        }
     }
 
     @Override
     @Transactional
     public PolicyRequest updateStatus(UUID id, PolicyRequestStatus newStatus) {
         PolicyRequest request = findById(id);
-        
-        if (!request.canTransitionTo(newStatus)) {
-            throw new IllegalStateException("Cannot transition from " + request.getStatus() + " to " + newStatus);
-        }
-        
-        request.updateStatus(newStatus);
-        request = repository.save(request);
-        
-        PolicyRequestEvent event = switch (newStatus) {
-            case VALIDATED -> new PolicyValidatedEvent(request);
-            case REJECTED -> new PolicyRejectedEvent(request);
-            case APPROVED -> new SubscriptionApprovedEvent(request);
-            case CANCELLED -> new PolicyCancelledEvent(request);
-            case PENDING -> new PaymentProcessedEvent(request);
-            default -> new PolicyStatusChangedEvent(request);
-        };
-        
-        String routingKey = switch (newStatus) {
-            case VALIDATED -> RabbitMQConfig.POLICY_VALIDATED_KEY;
-            case REJECTED -> RabbitMQConfig.POLICY_REJECTED_KEY;
-            case APPROVED -> RabbitMQConfig.POLICY_APPROVED_KEY;
-            case CANCELLED -> "policy.cancelled";
-            case PENDING -> RabbitMQConfig.PAYMENT_PROCESSED_KEY;
-            default -> "policy.status.changed";
-        };
-        
+        transition(request, newStatus, null);
         eventPublisher.publish(
             RabbitMQConfig.POLICY_EVENTS_EXCHANGE,
-            routingKey,
-            event
+            PolicyRequestEventRoutes.routingKey(newStatus),
+            PolicyRequestEventRoutes.eventFor(request)
         );
-        
         return request;
     }
 
+    /**
+     * Moves a managed request to {@code newStatus} and queues its history row. Nothing is written
+     * here: dirty checking flushes the status change (guarded by {@code @Version}) together with
+     * the history and outbox inserts when the surrounding transaction commits.
+     */
+    private void transition(PolicyRequest request, PolicyRequestStatus newStatus, String reason) {
+        if (!request.canTransitionTo(newStatus)) {
+            throw new IllegalStateException("Cannot transition from " + request.getStatus() + " to " + newStatus);
+        }
+        statusHistoryRepository.save(request.updateStatus(newStatus, reason));
+    }
+
     @Override
     @Transactional
     public void validatePolicyRequest(UUID id) {
-        PolicyRequest request = findById(id);
-        
+        validate(findById(id));
+    }
+
+    private void validate(PolicyRequest request) {
         if (request.getRiskAnalysis() == null) {
             throw new IllegalStateException("Cannot validate policy request without risk analysis");
         }
         
         CustomerRiskType riskType = request.getRiskAnalysis().getClassification();
-        boolean isValid = validateInsuranceAmount(request.getCategory(), 
-                                                request.getInsuredAmount(), 
-                                                riskType);
+        UnderwritingRule rule = underwritingRuleEngine.findRule(riskType,
+                                                                request.getCategory(),
+                                                                request.getSalesChannel());
         
-        PolicyRequestStatus newStatus = isValid ? PolicyRequestStatus.VALIDATED : PolicyRequestStatus.REJECTED;
-        updateStatus(id, newStatus);
+        PolicyRequestStatus newStatus = rule.permits(request.insured())
+            ? PolicyRequestStatus.VALIDATED : PolicyRequestStatus.REJECTED;
+        transition(request, newStatus, rule.getAuditReason());
+        eventPublisher.publish(
+            RabbitMQConfig.POLICY_EVENTS_EXCHANGE,
+            PolicyRequestEventRoutes.routingKey(newStatus),
+            PolicyRequestEventRoutes.eventFor(request)
+        );
     }
 
     @Override
@@ -121,15 +234,23 @@ public class PolicyRequestServiceImpl implements PolicyRequestService {
     public void processFraudAnalysis(UUID id) {
         PolicyRequest request = findById(id);
         
+        if (request.getStatus() != PolicyRequestStatus.RECEIVED) {
+            throw new IllegalStateException("Cannot analyze fraud for policy request in status: " + request.getStatus());
+        }
+        
         try {
-            RiskAnalysis riskAnalysis = fraudAnalysisService.analyzeFraud(request);
-            request.setRiskAnalysis(riskAnalysis);
-            repository.save(request);
-            validatePolicyRequest(id);
+            request.setRiskAnalysis(fraudAnalysisService.analyzeFraud(request));
+            validate(request);
+        } catch (FraudProviderUnavailableException e) {
+            log.warn("Fraud provider unavailable, parking policy request {} for retry: {}", id, e.getMessage());
+            eventPublisher.publish(
+                RabbitMQConfig.POLICY_RETRY_EXCHANGE,
+                RabbitMQConfig.FRAUD_ANALYSIS_RETRY_KEY,
+                new PolicyRequestCreatedEvent(request)
+            );
         } catch (Exception e) {
             log.error("Error analyzing fraud for policy request: {}", id, e);
-            request.setStatus(PolicyRequestStatus.REJECTED);
-            repository.save(request);
+            transition(request, PolicyRequestStatus.REJECTED, "Fraud analysis failed");
             eventPublisher.publish(
                 RabbitMQConfig.POLICY_EVENTS_EXCHANGE,
                 RabbitMQConfig.POLICY_REJECTED_KEY,
@@ -150,16 +271,14 @@ public class PolicyRequestServiceImpl implements PolicyRequestService {
         boolean success = paymentService.processPayment(request);
         
         if (success) {
-            request.setStatus(PolicyRequestStatus.PENDING);
-            repository.save(request);
+            transition(request, PolicyRequestStatus.PENDING, null);
             eventPublisher.publish(
                 RabbitMQConfig.POLICY_EVENTS_EXCHANGE,
                 RabbitMQConfig.PAYMENT_PROCESSED_KEY,
                 new PaymentProcessedEvent(request)
             );
         } else {
-            request.setStatus(PolicyRequestStatus.REJECTED);
-            repository.save(request);
+            transition(request, PolicyRequestStatus.REJECTED, "Payment rejected");
             eventPublisher.publish(
                 RabbitMQConfig.POLICY_EVENTS_EXCHANGE,
                 RabbitMQConfig.PAYMENT_REJECTED_KEY,
@@ -173,10 +292,13 @@ public class PolicyRequestServiceImpl implements PolicyRequestService {
     public void processSubscription(UUID id) {
         PolicyRequest request = findById(id);
         
+        if (request.getStatus() != PolicyRequestStatus.PENDING) {
+            throw new IllegalStateException("Cannot process subscription for policy request in status: " + request.getStatus());
+        }
+        
         try {
             subscriptionService.processSubscription(request);
-            request.setStatus(PolicyRequestStatus.APPROVED);
-            repository.save(request);
+            transition(request, PolicyRequestStatus.APPROVED, null);
             eventPublisher.publish(
                 RabbitMQConfig.POLICY_EVENTS_EXCHANGE,
                 RabbitMQConfig.POLICY_APPROVED_KEY,
@@ -184,8 +306,7 @@ public class PolicyRequestServiceImpl implements PolicyRequestService {
             );
         } catch (Exception e) {
             log.error("Error processing subscription for policy request: {}", id, e);
-            request.setStatus(PolicyRequestStatus.REJECTED);
-            repository.save(request);
+            transition(request, PolicyRequestStatus.REJECTED, "Subscription failed");
             eventPublisher.publish(
                 RabbitMQConfig.POLICY_EVENTS_EXCHANGE,
                 RabbitMQConfig.POLICY_REJECTED_KEY,
@@ -203,24 +324,12 @@ public class PolicyRequestServiceImpl implements PolicyRequestService {
             throw new IllegalStateException("Cannot cancel an approved policy request");
         }
         
-        request.setStatus(PolicyRequestStatus.CANCELLED);
-        repository.save(request);
+        transition(request, PolicyRequestStatus.CANCELLED, null);
         
         eventPublisher.publish(
             RabbitMQConfig.POLICY_EVENTS_EXCHANGE,
-            "policy.cancelled",
+            RabbitMQConfig.POLICY_CANCELLED_KEY,
             new PolicyCancelledEvent(request)
         );
     }
-
-    private boolean validateInsuranceAmount(InsuranceCategory category, BigDecimal amount, CustomerRiskType riskType) {
-        return switch (riskType) {
-            case REGULAR -> amount.compareTo(new BigDecimal("500000.00")) <= 0;
-            case HIGH_RISK -> amount.compareTo(new BigDecimal("50000.00")) <= 0;
-            case PREFERRED -> amount.compareTo(new BigDecimal("1000000.00")) <= 0;
-            case NO_INFORMATION -> category == InsuranceCategory.LIFE ? 
-                amount.compareTo(new BigDecimal("100000.00")) <= 0 :
-                amount.compareTo(new BigDecimal("50000.00")) <= 0;
-        };
-    }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,106 @@
+package com.insurance.service.scoring;
+
+import com.insurance.domain.PolicyRequest;
+import com.insurance.domain.RiskAnalysis;
+import com.insurance.domain.RiskOccurrence;
+import com.insurance.domain.enums.CustomerRiskType;
+import com.insurance.domain.enums.InsuranceCategory;
+import com.insurance.domain.enums.SalesChannel;
+import com.insurance.repository.PolicyRequestRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Computes a provisional risk classification from data we already hold, for use while the
+ * fraud provider is unavailable. It is deliberately conservative: it never grants
+ * {@link CustomerRiskType#PREFERRED}, and a customer with no usable history is scored as
+ * {@link CustomerRiskType#NO_INFORMATION}.
+ */
+@Component
+@Slf4j
+public class LocalRiskScoringEngine {
+
+    static final String FRAUD_OCCURRENCE = "FRAUD";
+    static final int HIGH_RISK_SCORE = 3;
+
+    private final PolicyRequestRepository repository;
+    private final MeterRegistry meterRegistry;
+    private final int historySize;
+
+    public LocalRiskScoringEngine(PolicyRequestRepository repository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${fraud.fallback.history-size:20}") int historySize) {
+        this.repository = repository;
+        this.meterRegistry = meterRegistry;
+        this.historySize = historySize;
+    }
+
+    @Transactional(readOnly = true)
+    public RiskAnalysis score(PolicyRequest request) {
+        List<RiskAnalysis> history = repository.findRiskAnalysesByCustomerId(
+            request.getCustomerId(), PageRequest.of(0, historySize));
+
+        CustomerRiskType classification = classify(history, request.getSalesChannel(), request.getCategory());
+        log.info("Provisional risk classification {} for policy request {} from {} prior analyses",
+                 classification, request.getId(), history.size());
+        Counter.builder("fraud.fallback.scored")
+            .tag("classification", classification.name())
+            .register(meterRegistry)
+            .increment();
+
+        RiskAnalysis riskAnalysis = new RiskAnalysis();
+        riskAnalysis.setClassification(classification);
+        riskAnalysis.setAnalyzedAt(LocalDateTime.now());
+        riskAnalysis.setProvisional(true);
+        return riskAnalysis;
+    }
+
+    CustomerRiskType classify(List<RiskAnalysis> history, SalesChannel channel, InsuranceCategory category) {
+        if (history.isEmpty()) {
+            return CustomerRiskType.NO_INFORMATION;
+        }
+        if (history.get(0).getClassification() == CustomerRiskType.HIGH_RISK) {
+            return CustomerRiskType.HIGH_RISK;
+        }
+
+        int score = channelWeight(channel) + categoryWeight(category);
+        for (RiskAnalysis analysis : history) {
+            if (analysis.getClassification() == CustomerRiskType.HIGH_RISK) {
+                score += 1;
+            }
+            for (RiskOccurrence occurrence : analysis.getOccurrences()) {
+                score += FRAUD_OCCURRENCE.equalsIgnoreCase(occurrence.getType()) ? 3 : 1;
+            }
+        }
+
+        return score >= HIGH_RISK_SCORE ? CustomerRiskType.HIGH_RISK : CustomerRiskType.REGULAR;
+    }
+
+    private int channelWeight(SalesChannel channel) {
+        if (channel == null) {
+            return 0;
+        }
+        return switch (channel) {
+            case BROKER, BANK -> -1;          // intermediated, identity already checked
+            case CALL_CENTER -> 0;
+            case WEBSITE, MOBILE -> 1;        // self-service
+        };
+    }
+
+    private int categoryWeight(InsuranceCategory category) {
+        if (category == null) {
+            return 0;
+        }
+        return switch (category) {
+            case AUTO, TRAVEL -> 1;
+            case LIFE, RESIDENTIAL, HEALTH -> 0;
+        };
+    }
+}
@@ -0,0 +1,107 @@
+package com.insurance.service.underwriting;
+
+import com.insurance.domain.Money;
+import com.insurance.domain.enums.CustomerRiskType;
+import com.insurance.domain.enums.InsuranceCategory;
+import com.insurance.domain.enums.SalesChannel;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * Insured amount limit for a risk classification. {@code category} and {@code salesChannel}
+ * are optional; a rule that sets them is more specific than one that leaves them open.
+ */
+public final class UnderwritingRule {
+
+    private final String id;
+    private final CustomerRiskType riskType;
+    private final InsuranceCategory category;
+    private final SalesChannel salesChannel;
+    private final BigDecimal maxInsuredAmount;
+    private final Money maxInsured;
+    private final String auditReason;
+
+    public UnderwritingRule(String id, CustomerRiskType riskType, InsuranceCategory category,
+                            SalesChannel salesChannel, BigDecimal maxInsuredAmount) {
+        if (id == null || id.isBlank()) {
+            throw new IllegalArgumentException("Underwriting rule id cannot be empty");
+        }
+        if (riskType == null) {
+            throw new IllegalArgumentException("Underwriting rule riskType cannot be null");
+        }
+        if (maxInsuredAmount == null || maxInsuredAmount.signum() <= 0) {
+            throw new IllegalArgumentException("Underwriting rule maxInsuredAmount must be greater than zero");
+        }
+        this.id = id;
+        this.riskType = riskType;
+        this.category = category;
+        this.salesChannel = salesChannel;
+        this.maxInsuredAmount = maxInsuredAmount;
+        this.maxInsured = Money.of(maxInsuredAmount, Money.DEFAULT_CURRENCY, RoundingMode.FLOOR);
+        this.auditReason = "Underwriting rule " + id + ": max insured amount " + maxInsuredAmount.toPlainString();
+    }
+
+    public boolean permits(Money insuredAmount) {
+        return !insuredAmount.isGreaterThan(maxInsured);
+    }
+
+    boolean matches(CustomerRiskType riskType, InsuranceCategory category, SalesChannel salesChannel) {
+        return this.riskType == riskType
+            && (this.category == null || this.category == category)
+            && (this.salesChannel == null || this.salesChannel == salesChannel);
+    }
+
+    int specificity() {
+        return (category != null ? 2 : 0) + (salesChannel != null ? 1 : 0);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public CustomerRiskType getRiskType() {
+        return riskType;
+    }
+
+    public InsuranceCategory getCategory() {
+        return category;
+    }
+
+    public SalesChannel getSalesChannel() {
+        return salesChannel;
+    }
+
+    public BigDecimal getMaxInsuredAmount() {
+        return maxInsuredAmount;
+    }
+
+    /**
+     * Precomputed description recorded in the status history when this rule decides a request.
+     */
+    public String getAuditReason() {
+        return auditReason;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof UnderwritingRule other)) {
+            return false;
+        }
+        return id.equals(other.id) && riskType == other.riskType && category == other.category
+            && salesChannel == other.salesChannel && maxInsuredAmount.compareTo(other.maxInsuredAmount) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, riskType, category, salesChannel);
+    }
+
+    @Override
+    public String toString() {
+        return auditReason;
+    }
+}
@@ -0,0 +1,54 @@
+package com.insurance.service.underwriting;
+
+import com.insurance.domain.enums.CustomerRiskType;
+import com.insurance.domain.enums.InsuranceCategory;
+import com.insurance.domain.enums.SalesChannel;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resolves the insured amount limit that applies to a request. Rules are held in an immutable
+ * {@link UnderwritingRuleTable} that is swapped atomically on reload, so lookups never lock
+ * and never see a half-built rule set.
+ */
+@Component
+@Slf4j
+public class UnderwritingRuleEngine {
+
+    private static final List<UnderwritingRule> DEFAULT_RULES = List.of(
+        new UnderwritingRule("default-regular", CustomerRiskType.REGULAR, null, null, new BigDecimal("500000.00")),
+        new UnderwritingRule("default-high-risk", CustomerRiskType.HIGH_RISK, null, null, new BigDecimal("50000.00")),
+        new UnderwritingRule("default-preferred", CustomerRiskType.PREFERRED, null, null, new BigDecimal("1000000.00")),
+        new UnderwritingRule("default-no-information", CustomerRiskType.NO_INFORMATION, null, null,
+            new BigDecimal("50000.00")),
+        new UnderwritingRule("default-no-information-life", CustomerRiskType.NO_INFORMATION,
+            InsuranceCategory.LIFE, null, new BigDecimal("100000.00"))
+    );
+
+    private volatile UnderwritingRuleTable table = UnderwritingRuleTable.of(DEFAULT_RULES);
+
+    public static List<UnderwritingRule> defaultRules() {
+        return DEFAULT_RULES;
+    }
+
+    public UnderwritingRule findRule(CustomerRiskType riskType, InsuranceCategory category, SalesChannel channel) {
+        if (riskType == null || category == null || channel == null) {
+            throw new IllegalArgumentException("riskType, category and salesChannel are required for underwriting");
+        }
+        return table.lookup(riskType, category, channel);
+    }
+
+    /**
+     * Replaces the active rules with the defaults overridden by {@code overrides}. The current
+     * rules stay in place if the new set is invalid.
+     */
+    public void reload(List<UnderwritingRule> overrides) {
+        List<UnderwritingRule> rules = new ArrayList<>(DEFAULT_RULES);
+        rules.addAll(overrides);
+        table = UnderwritingRuleTable.of(rules);
+        log.info("Loaded {} underwriting rule overrides", overrides.size());
+    }
+}
@@ -0,0 +1,40 @@
+package com.insurance.service.underwriting;
+
+import com.insurance.domain.UnderwritingLimit;
+import com.insurance.repository.UnderwritingLimitRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically reloads the active {@link UnderwritingLimit} rows into the rule engine.
+ */
+@Component
+@ConditionalOnProperty(name = "underwriting.rules.reload-enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class UnderwritingRuleLoader {
+
+    private final UnderwritingLimitRepository repository;
+    private final UnderwritingRuleEngine engine;
+
+    @Scheduled(initialDelay = 0, fixedDelayString = "${underwriting.rules.reload-interval-ms:60000}")
+    public void reload() {
+        try {
+            List<UnderwritingRule> rules = repository.findByActiveTrue().stream()
+                .map(this::toRule)
+                .toList();
+            engine.reload(rules);
+        } catch (RuntimeException e) {
+            log.error("Could not reload underwriting rules, keeping the current ones", e);
+        }
+    }
+
+    private UnderwritingRule toRule(UnderwritingLimit limit) {
+        return new UnderwritingRule("limit-" + limit.getId(), limit.getRiskType(), limit.getCategory(),
+            limit.getSalesChannel(), limit.getMaxInsuredAmount());
+    }
+}
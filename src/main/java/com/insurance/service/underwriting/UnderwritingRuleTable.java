@@ -0,0 +1,60 @@
+package com.insurance.service.underwriting;
+
+import com.insurance.domain.enums.CustomerRiskType;
+import com.insurance.domain.enums.InsuranceCategory;
+import com.insurance.domain.enums.SalesChannel;
+import java.util.List;
+
+/**
+ * Immutable snapshot resolving every (risk type, category, sales channel) combination to its
+ * most specific rule ahead of time, so a lookup is a single array access.
+ */
+final class UnderwritingRuleTable {
+
+    private static final CustomerRiskType[] RISK_TYPES = CustomerRiskType.values();
+    private static final InsuranceCategory[] CATEGORIES = InsuranceCategory.values();
+    private static final SalesChannel[] CHANNELS = SalesChannel.values();
+
+    private final UnderwritingRule[] rules;
+
+    private UnderwritingRuleTable(UnderwritingRule[] rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Builds a table from the given rules. When several rules match a combination the most
+     * specific one wins; between equally specific rules the later one in the list wins.
+     *
+     * @throws IllegalArgumentException if some combination is not covered by any rule
+     */
+    static UnderwritingRuleTable of(List<UnderwritingRule> source) {
+        UnderwritingRule[] rules = new UnderwritingRule[RISK_TYPES.length * CATEGORIES.length * CHANNELS.length];
+        for (CustomerRiskType riskType : RISK_TYPES) {
+            for (InsuranceCategory category : CATEGORIES) {
+                for (SalesChannel channel : CHANNELS) {
+                    UnderwritingRule selected = null;
+                    for (UnderwritingRule rule : source) {
+                        if (rule.matches(riskType, category, channel)
+                            && (selected == null || rule.specificity() >= selected.specificity())) {
+                            selected = rule;
+                        }
+                    }
+                    if (selected == null) {
+                        throw new IllegalArgumentException(
+                            "No underwriting rule for " + riskType + "/" + category + "/" + channel);
+                    }
+                    rules[index(riskType, category, channel)] = selected;
+                }
+            }
+        }
+        return new UnderwritingRuleTable(rules);
+    }
+
+    UnderwritingRule lookup(CustomerRiskType riskType, InsuranceCategory category, SalesChannel channel) {
+        return rules[index(riskType, category, channel)];
+    }
+
+    private static int index(CustomerRiskType riskType, InsuranceCategory category, SalesChannel channel) {
+        return (riskType.ordinal() * CATEGORIES.length + category.ordinal()) * CHANNELS.length + channel.ordinal();
+    }
+}
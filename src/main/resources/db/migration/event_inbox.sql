@@ -0,0 +1,12 @@
+-- Consumer inbox of handled event ids. Rows older than messaging.inbox.retention-hours are
+-- deleted by EventInbox compaction, so the table stays bounded by the retention window.
+
+CREATE TABLE IF NOT EXISTS event_inbox (
+    id           uuid PRIMARY KEY,
+    event_id     uuid         NOT NULL,
+    consumer     varchar(255) NOT NULL,
+    event_type   varchar(255),
+    processed_at timestamp(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_event_inbox_processed_at ON event_inbox (processed_at);
@@ -0,0 +1,15 @@
+-- Second tier of the Idempotency-Key store. Rows are short-lived: claims expire after
+-- idempotency.in-progress-timeout-seconds and completed responses after idempotency.ttl-seconds,
+-- and IdempotencyStore purges expired rows on a schedule.
+
+CREATE TABLE IF NOT EXISTS idempotency_keys (
+    id              uuid PRIMARY KEY,
+    completed       boolean      NOT NULL,
+    request_digest  bytea,
+    response_status integer,
+    content_type    varchar(255),
+    response_body   bytea,
+    expires_at      timestamp(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_idempotency_keys_expires_at ON idempotency_keys (expires_at);
@@ -0,0 +1,4 @@
+-- Adds the SHA-256 of the request body that claimed an idempotency key. Run once against existing
+-- databases before deploying; rows claimed earlier keep a null digest and are replayed as before.
+
+ALTER TABLE idempotency_keys ADD COLUMN IF NOT EXISTS request_digest bytea;
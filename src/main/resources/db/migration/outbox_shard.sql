@@ -0,0 +1,4 @@
+-- Adds the pipeline shard stamped on outbox rows when messaging.sharding is enabled. Rows written
+-- before the column existed stay null and are relayed without a shard header.
+
+ALTER TABLE outbox_events ADD COLUMN IF NOT EXISTS shard integer;
@@ -0,0 +1,26 @@
+-- Moves coverages and assistances from the element-collection tables into JSONB columns on
+-- policy_requests. Run once against existing databases before deploying the JSON mapping;
+-- it is idempotent and only fills rows that have not been migrated yet.
+
+ALTER TABLE policy_requests ADD COLUMN IF NOT EXISTS coverages jsonb;
+ALTER TABLE policy_requests ADD COLUMN IF NOT EXISTS assistances jsonb;
+
+UPDATE policy_requests p
+SET coverages = COALESCE(
+        (SELECT jsonb_object_agg(c.coverage_name, c.coverage_amount)
+         FROM policy_request_coverages c
+         WHERE c.policy_request_id = p.id),
+        '{}'::jsonb)
+WHERE p.coverages IS NULL;
+
+UPDATE policy_requests p
+SET assistances = COALESCE(
+        (SELECT jsonb_agg(a.assistance_name)
+         FROM policy_request_assistances a
+         WHERE a.policy_request_id = p.id),
+        '[]'::jsonb)
+WHERE p.assistances IS NULL;
+
+-- After verifying the copied data, the old tables can be dropped:
+-- DROP TABLE policy_request_coverages;
+-- DROP TABLE policy_request_assistances;
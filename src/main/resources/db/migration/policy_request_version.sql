@@ -0,0 +1,4 @@
+-- Adds the optimistic-lock column used by PolicyRequest transitions. Run once against existing
+-- databases before deploying; new rows start at 0 and every status change increments it.
+
+ALTER TABLE policy_requests ADD COLUMN IF NOT EXISTS version bigint NOT NULL DEFAULT 0;
@@ -0,0 +1,4 @@
+-- Adds the flag for risk analyses scored locally while the fraud provider was unavailable. Run once
+-- against existing databases before deploying; existing rows came from the provider and stay false.
+
+ALTER TABLE risk_analysis ADD COLUMN IF NOT EXISTS provisional boolean NOT NULL DEFAULT false;
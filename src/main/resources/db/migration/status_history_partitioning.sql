@@ -0,0 +1,46 @@
+-- Converts status_history into a table range-partitioned by changed_at month. Postgres requires
+-- the partition key in the primary key, so the key becomes (id, changed_at); ids stay unique
+-- because they are generated UUIDs. Run once, with the application stopped, after the
+-- append-only StatusHistory mapping is deployed. Future months are created by
+-- StatusHistoryPartitionMaintainer (status-history.partitioning.enabled=true).
+--
+-- LIKE does not copy foreign keys, so the reference to policy_requests is added back on the
+-- partitioned parent (Postgres 12+) after the rows are copied; every partition inherits it.
+
+BEGIN;
+
+ALTER TABLE status_history RENAME TO status_history_legacy;
+ALTER TABLE status_history_legacy RENAME CONSTRAINT status_history_pkey TO status_history_legacy_pkey;
+ALTER INDEX IF EXISTS idx_status_history_request_changed RENAME TO idx_status_history_legacy_request_changed;
+
+CREATE TABLE status_history (
+    LIKE status_history_legacy INCLUDING DEFAULTS INCLUDING CONSTRAINTS,
+    PRIMARY KEY (id, changed_at)
+) PARTITION BY RANGE (changed_at);
+
+CREATE INDEX idx_status_history_request_changed ON status_history (policy_request_id, changed_at);
+
+DO $$
+DECLARE
+    month date;
+BEGIN
+    FOR month IN
+        SELECT generate_series(
+                   date_trunc('month', COALESCE((SELECT min(changed_at) FROM status_history_legacy), now())),
+                   date_trunc('month', now()) + interval '3 months',
+                   interval '1 month')::date
+    LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF status_history FOR VALUES FROM (%L) TO (%L)',
+                       'status_history_' || to_char(month, 'YYYY_MM'), month, (month + interval '1 month')::date);
+    END LOOP;
+END $$;
+
+INSERT INTO status_history SELECT * FROM status_history_legacy;
+
+ALTER TABLE status_history
+    ADD CONSTRAINT fk_status_history_policy_request
+    FOREIGN KEY (policy_request_id) REFERENCES policy_requests (id);
+
+DROP TABLE status_history_legacy;
+
+COMMIT;
@@ -6,8 +6,13 @@ import com.insurance.domain.enums.InsuranceCategory;
 import com.insurance.domain.enums.PaymentMethod;
 import com.insurance.domain.enums.PolicyRequestStatus;
 import com.insurance.domain.enums.SalesChannel;
+import com.insurance.dto.PolicyRequestBatchResultDTO;
+import com.insurance.dto.PolicyRequestCursor;
 import com.insurance.dto.PolicyRequestDTO;
+import com.insurance.dto.PolicyRequestImportResultDTO;
 import com.insurance.mapper.PolicyRequestMapper;
+import com.insurance.service.PolicyRequestBatchService;
+import com.insurance.service.PolicyRequestImportService;
 import com.insurance.service.PolicyRequestService;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,17 +22,28 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.io.InputStream;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -46,6 +62,12 @@ class PolicyRequestControllerTest {
     @Mock
     private PolicyRequestMapper mapper;
 
+    @Mock
+    private PolicyRequestBatchService batchService;
+
+    @Mock
+    private PolicyRequestImportService importService;
+
     @InjectMocks
     private PolicyRequestController controller;
 
@@ -101,14 +123,78 @@ class PolicyRequestControllerTest {
 
     @Test
     void testGetPolicyRequest() throws Exception {
-        when(service.findById(policyId)).thenReturn(policyRequest);
+        when(service.findWithHistoryById(policyId)).thenReturn(policyRequest);
         when(mapper.toDTO(any(PolicyRequest.class))).thenReturn(requestDTO);
 
         mockMvc.perform(get("/api/v1/policy-requests/{id}", policyId))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.customerId").value(customerId.toString()));
 
-        verify(service).findById(policyId);
+        verify(service).findWithHistoryById(policyId);
+    }
+
+    @Test
+    void testGetPolicyRequestPageByCustomerReturnsNextCursor() throws Exception {
+        policyRequest.setCreatedAt(LocalDateTime.of(2024, 3, 1, 10, 0));
+        when(service.findPageByCustomerId(customerId, null, 1))
+            .thenReturn(new SliceImpl<>(List.of(policyRequest), PageRequest.of(0, 1), true));
+        when(mapper.toDTO(any(PolicyRequest.class))).thenReturn(requestDTO);
+
+        String expectedCursor = new PolicyRequestCursor(policyRequest.getCreatedAt(), policyId).encode();
+
+        mockMvc.perform(get("/api/v1/policy-requests/customer/{customerId}/page", customerId)
+                .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].customerId").value(customerId.toString()))
+                .andExpect(jsonPath("$.nextCursor").value(expectedCursor));
+    }
+
+    @Test
+    void testGetPolicyRequestPageByCustomerWithCursor() throws Exception {
+        PolicyRequestCursor cursor = new PolicyRequestCursor(LocalDateTime.of(2024, 3, 1, 10, 0), policyId);
+        when(service.findPageByCustomerId(customerId, cursor, 50))
+            .thenReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 50), false));
+
+        mockMvc.perform(get("/api/v1/policy-requests/customer/{customerId}/page", customerId)
+                .param("cursor", cursor.encode()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items").isEmpty())
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void testGetPolicyRequestPageByCustomerRejectsMalformedCursor() throws Exception {
+        mockMvc.perform(get("/api/v1/policy-requests/customer/{customerId}/page", customerId)
+                .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+
+        verify(service, never()).findPageByCustomerId(any(), any(), anyInt());
+    }
+
+    @Test
+    void testStreamPolicyRequestsByCustomerWritesNdjson() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<PolicyRequest> consumer = invocation.getArgument(1);
+            consumer.accept(policyRequest);
+            consumer.accept(policyRequest);
+            return null;
+        }).when(service).streamByCustomerId(eq(customerId), any());
+        when(mapper.toDTO(any(PolicyRequest.class))).thenReturn(requestDTO);
+
+        MvcResult result = mockMvc.perform(get("/api/v1/policy-requests/customer/{customerId}/stream", customerId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(customerId.toString(), objectMapper.readTree(lines[0]).get("customerId").asText());
     }
 
     @Test
@@ -174,6 +260,15 @@ class PolicyRequestControllerTest {
         verify(service).cancelPolicyRequest(policyId);
     }
 
+    @Test
+    void testCancelPolicyRequestReturnConflictOnConcurrentUpdate() throws Exception {
+        doThrow(new ObjectOptimisticLockingFailureException(PolicyRequest.class, policyId))
+            .when(service).cancelPolicyRequest(policyId);
+
+        mockMvc.perform(post("/api/v1/policy-requests/{id}/cancel", policyId))
+                .andExpect(status().isConflict());
+    }
+
     @Test
     void testCreatePolicyRequestReturnBadRequest() throws Exception {
         requestDTO.setCustomerId(null); // Tornando o DTO inválido
@@ -188,9 +283,62 @@ class PolicyRequestControllerTest {
 
     @Test
     void testGetPolicyRequestReturnNotFound() throws Exception {
-        when(service.findById(any(UUID.class))).thenThrow(new EntityNotFoundException("Policy request not found"));
+        when(service.findWithHistoryById(any(UUID.class))).thenThrow(new EntityNotFoundException("Policy request not found"));
 
         mockMvc.perform(get("/api/v1/policy-requests/{id}", UUID.randomUUID()))
                 .andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testCreatePolicyRequestsBatch() throws Exception {
+        PolicyRequestBatchResultDTO success = new PolicyRequestBatchResultDTO();
+        success.setIndex(0);
+        success.setPolicyRequest(requestDTO);
+        PolicyRequestBatchResultDTO failure = new PolicyRequestBatchResultDTO();
+        failure.setIndex(1);
+        failure.setError("Customer ID is required");
+        when(batchService.createBatch(anyList())).thenReturn(Arrays.asList(success, failure));
+
+        PolicyRequestDTO invalid = new PolicyRequestDTO();
+        mockMvc.perform(post("/api/v1/policy-requests/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Arrays.asList(requestDTO, invalid))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].success").value(true))
+                .andExpect(jsonPath("$[0].policyRequest.customerId").value(customerId.toString()))
+                .andExpect(jsonPath("$[1].success").value(false))
+                .andExpect(jsonPath("$[1].error").value("Customer ID is required"));
+
+        verify(batchService).createBatch(anyList());
+    }
+
+    @Test
+    void testCreatePolicyRequestsBatchTooLarge() throws Exception {
+        when(batchService.createBatch(anyList()))
+            .thenThrow(new IllegalArgumentException("Batch size 2 exceeds the maximum of 1"));
+
+        mockMvc.perform(post("/api/v1/policy-requests/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(Arrays.asList(requestDTO, requestDTO))))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void testImportPolicyRequestsNdjson() throws Exception {
+        PolicyRequestImportResultDTO result = new PolicyRequestImportResultDTO();
+        result.setReceived(2);
+        result.setImported(2);
+        when(importService.importNdjson(any(InputStream.class))).thenReturn(result);
+
+        String body = objectMapper.writeValueAsString(requestDTO) + "\n" + objectMapper.writeValueAsString(requestDTO);
+        mockMvc.perform(post("/api/v1/policy-requests/import")
+                .contentType("application/x-ndjson")
+                .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(2))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(0));
+
+        verify(importService).importNdjson(any(InputStream.class));
+    }
+}
@@ -0,0 +1,85 @@
+package com.insurance.domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Currency;
+import org.junit.jupiter.api.Test;
+
+class MoneyTest {
+
+    private static final Currency USD = Currency.getInstance("USD");
+
+    @Test
+    void testConvertsBigDecimalToMinorUnits() {
+        assertEquals(1234567L, Money.of(new BigDecimal("12345.67")).getMinorUnits());
+        assertEquals(1200L, Money.of(new BigDecimal("12")).getMinorUnits());
+        assertEquals(Money.DEFAULT_CURRENCY, Money.of(BigDecimal.ONE).getCurrency());
+    }
+
+    @Test
+    void testRoundTripsToBigDecimalWithCurrencyScale() {
+        assertEquals(new BigDecimal("50000.00"), Money.of(new BigDecimal("50000")).toBigDecimal());
+        assertEquals(new BigDecimal("0.05"), Money.ofMinor(5L, Money.DEFAULT_CURRENCY).toBigDecimal());
+    }
+
+    @Test
+    void testRejectsAmountsFinerThanMinorUnitUnlessRounded() {
+        assertThrows(IllegalArgumentException.class, () -> Money.of(new BigDecimal("10.001")));
+        assertEquals(1001L, Money.of(new BigDecimal("10.001"), Money.DEFAULT_CURRENCY, RoundingMode.CEILING).getMinorUnits());
+        assertEquals(1000L, Money.of(new BigDecimal("10.009"), Money.DEFAULT_CURRENCY, RoundingMode.FLOOR).getMinorUnits());
+    }
+
+    @Test
+    void testRejectsAmountsOutsideLongRange() {
+        assertThrows(IllegalArgumentException.class, () -> Money.of(new BigDecimal("1e20")));
+    }
+
+    @Test
+    void testRejectsNullAmount() {
+        assertThrows(NullPointerException.class, () -> Money.of(null));
+    }
+
+    @Test
+    void testArithmeticAndComparison() {
+        Money ten = Money.of(new BigDecimal("10.00"));
+        Money three = Money.of(new BigDecimal("3.50"));
+
+        assertEquals(Money.of(new BigDecimal("13.50")), ten.plus(three));
+        assertEquals(Money.of(new BigDecimal("6.50")), ten.minus(three));
+        assertEquals(-1, three.minus(ten).signum());
+        assertTrue(ten.isGreaterThan(three));
+        assertFalse(three.isGreaterThan(ten));
+        assertTrue(ten.isPositive());
+        assertFalse(Money.zero().isPositive());
+        assertEquals(0, ten.compareTo(Money.of(new BigDecimal("10"))));
+    }
+
+    @Test
+    void testOverflowFails() {
+        Money max = Money.ofMinor(Long.MAX_VALUE, Money.DEFAULT_CURRENCY);
+
+        assertThrows(ArithmeticException.class, () -> max.plus(Money.ofMinor(1L, Money.DEFAULT_CURRENCY)));
+    }
+
+    @Test
+    void testCurrencyMismatchFails() {
+        Money brl = Money.of(BigDecimal.TEN);
+        Money usd = Money.of(BigDecimal.TEN, USD);
+
+        assertThrows(IllegalArgumentException.class, () -> brl.plus(usd));
+        assertThrows(IllegalArgumentException.class, () -> brl.compareTo(usd));
+        assertFalse(brl.equals(usd));
+    }
+
+    @Test
+    void testZeroIsSharedForDefaultCurrency() {
+        assertSame(Money.zero(), Money.zero(Money.DEFAULT_CURRENCY));
+        assertEquals(USD, Money.zero(USD).getCurrency());
+    }
+}
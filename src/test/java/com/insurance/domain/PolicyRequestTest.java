@@ -4,6 +4,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -536,6 +537,32 @@ class PolicyRequestTest {
         assertDoesNotThrow(() -> policyRequest.canTransitionTo(PolicyRequestStatus.PENDING));
     }
 
+    @Test
+    void testCalculateTotalCoverageAmountRejectsSubCentCoverage() {
+        policyRequest.setCoverages(Map.of("COLLISION", new BigDecimal("25000.001")));
+
+        assertThrows(IllegalArgumentException.class, () -> policyRequest.calculateTotalCoverageAmount());
+    }
+
+    @Test
+    void testInsuredRoundsSubCentAmountsUp() {
+        policyRequest.setInsuredAmount(new BigDecimal("500000.001"));
+
+        assertEquals(Money.of(new BigDecimal("500000.01")), policyRequest.insured());
+    }
+
+    @Test
+    void testInsuredFollowsInsuredAmount() {
+        policyRequest.setInsuredAmount(new BigDecimal("1000.00"));
+        Money first = policyRequest.insured();
+
+        assertSame(first, policyRequest.insured());
+
+        policyRequest.setInsuredAmount(new BigDecimal("2000.00"));
+
+        assertEquals(Money.of(new BigDecimal("2000.00")), policyRequest.insured());
+    }
+
     @Test
     void testCalculateTotalCoverageAmountWithSingleCoverage() {
         Map<String, BigDecimal> singleCoverage = new HashMap<>();
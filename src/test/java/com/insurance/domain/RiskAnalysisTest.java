@@ -1,6 +1,7 @@
 package com.insurance.domain;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -31,6 +32,7 @@ class RiskAnalysisTest {
         assertEquals(analyzedAt, riskAnalysis.getAnalyzedAt());
         assertNotNull(riskAnalysis.getOccurrences());
         assertTrue(riskAnalysis.getOccurrences().isEmpty());
+        assertFalse(riskAnalysis.isProvisional());
     }
 
     @Test
@@ -0,0 +1,73 @@
+package com.insurance.domain.statemachine;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.insurance.domain.enums.ClaimStatus;
+import com.insurance.domain.enums.PolicyRequestStatus;
+import java.util.EnumSet;
+import org.junit.jupiter.api.Test;
+
+class StateMachineTest {
+
+    @Test
+    void shouldAllowOnlyDeclaredTransitions() {
+        StateMachine<ClaimStatus> machine = StateMachine.builder(ClaimStatus.class)
+            .allow(ClaimStatus.SUBMITTED, ClaimStatus.UNDER_REVIEW)
+            .build();
+
+        assertTrue(machine.canTransition(ClaimStatus.SUBMITTED, ClaimStatus.UNDER_REVIEW));
+        assertFalse(machine.canTransition(ClaimStatus.UNDER_REVIEW, ClaimStatus.SUBMITTED));
+        assertFalse(machine.canTransition(ClaimStatus.SUBMITTED, ClaimStatus.PAID));
+    }
+
+    @Test
+    void shouldRejectSelfTransitions() {
+        StateMachine.Builder<ClaimStatus> builder = StateMachine.builder(ClaimStatus.class);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> builder.allow(ClaimStatus.SUBMITTED, ClaimStatus.SUBMITTED));
+    }
+
+    @Test
+    void shouldNotBeAffectedByBuilderChangesAfterBuild() {
+        StateMachine.Builder<ClaimStatus> builder = StateMachine.builder(ClaimStatus.class)
+            .allow(ClaimStatus.SUBMITTED, ClaimStatus.UNDER_REVIEW);
+        StateMachine<ClaimStatus> machine = builder.build();
+
+        builder.allow(ClaimStatus.SUBMITTED, ClaimStatus.REJECTED);
+
+        assertFalse(machine.canTransition(ClaimStatus.SUBMITTED, ClaimStatus.REJECTED));
+    }
+
+    @Test
+    void shouldMatchPolicyRequestLifecycle() {
+        StateMachine<PolicyRequestStatus> machine = StatusTransitions.POLICY_REQUEST;
+
+        assertEquals(EnumSet.of(PolicyRequestStatus.VALIDATED, PolicyRequestStatus.REJECTED, PolicyRequestStatus.CANCELLED),
+            machine.allowedTransitions(PolicyRequestStatus.RECEIVED));
+        assertEquals(EnumSet.of(PolicyRequestStatus.PENDING, PolicyRequestStatus.REJECTED, PolicyRequestStatus.CANCELLED),
+            machine.allowedTransitions(PolicyRequestStatus.VALIDATED));
+        assertEquals(EnumSet.of(PolicyRequestStatus.APPROVED, PolicyRequestStatus.REJECTED, PolicyRequestStatus.CANCELLED),
+            machine.allowedTransitions(PolicyRequestStatus.PENDING));
+        assertTrue(machine.isTerminal(PolicyRequestStatus.APPROVED));
+        assertTrue(machine.isTerminal(PolicyRequestStatus.REJECTED));
+        assertTrue(machine.isTerminal(PolicyRequestStatus.CANCELLED));
+        assertFalse(machine.isTerminal(PolicyRequestStatus.RECEIVED));
+    }
+
+    @Test
+    void shouldMatchClaimLifecycle() {
+        StateMachine<ClaimStatus> machine = StatusTransitions.CLAIM;
+
+        assertEquals(EnumSet.of(ClaimStatus.UNDER_REVIEW, ClaimStatus.REJECTED),
+            machine.allowedTransitions(ClaimStatus.SUBMITTED));
+        assertEquals(EnumSet.of(ClaimStatus.APPROVED, ClaimStatus.REJECTED),
+            machine.allowedTransitions(ClaimStatus.UNDER_REVIEW));
+        assertEquals(EnumSet.of(ClaimStatus.PAID), machine.allowedTransitions(ClaimStatus.APPROVED));
+        assertTrue(machine.isTerminal(ClaimStatus.PAID));
+        assertTrue(machine.isTerminal(ClaimStatus.REJECTED));
+    }
+}
@@ -0,0 +1,37 @@
+package com.insurance.dto;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class PolicyRequestCursorTest {
+
+    @Test
+    void testEncodeDecodeRoundTrip() {
+        PolicyRequestCursor cursor = new PolicyRequestCursor(LocalDateTime.of(2024, 3, 1, 10, 15, 30, 123456000),
+                                                             UUID.randomUUID());
+
+        assertEquals(cursor, PolicyRequestCursor.decode(cursor.encode()));
+    }
+
+    @Test
+    void testEncodedCursorIsUrlSafe() {
+        String token = new PolicyRequestCursor(LocalDateTime.now(), UUID.randomUUID()).encode();
+
+        assertFalse(token.contains("+"));
+        assertFalse(token.contains("/"));
+        assertFalse(token.contains("="));
+    }
+
+    @Test
+    void testDecodeRejectsMalformedTokens() {
+        assertThrows(IllegalArgumentException.class, () -> PolicyRequestCursor.decode("not-a-cursor"));
+        assertThrows(IllegalArgumentException.class, () -> PolicyRequestCursor.decode("%%%"));
+        assertThrows(IllegalArgumentException.class, () -> PolicyRequestCursor.decode(
+            new PolicyRequestCursor(LocalDateTime.now(), UUID.randomUUID()).encode().substring(4)));
+    }
+}
@@ -202,6 +202,26 @@ class PolicyRequestDTOTest {
             .anyMatch(v -> v.getMessage().equals("Insured amount must be positive")));
     }
 
+    @Test
+    void testSubCentInsuredAmount() {
+        policyRequestDTO.setInsuredAmount(new BigDecimal("50000.001"));
+
+        Set<ConstraintViolation<PolicyRequestDTO>> violations = validator.validate(policyRequestDTO);
+
+        assertTrue(violations.stream()
+            .anyMatch(v -> v.getMessage().equals("Insured amount must have at most 2 decimal places")));
+    }
+
+    @Test
+    void testSubCentCoverageAmount() {
+        policyRequestDTO.setCoverages(Map.of("RCF", new BigDecimal("100000.005")));
+
+        Set<ConstraintViolation<PolicyRequestDTO>> violations = validator.validate(policyRequestDTO);
+
+        assertTrue(violations.stream()
+            .anyMatch(v -> v.getMessage().equals("Coverage amounts must have at most 2 decimal places")));
+    }
+
     @Test
     void testNullCoverages() {
         policyRequestDTO.setCoverages(null);
@@ -1,6 +1,7 @@
 package com.insurance.event;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -88,4 +89,14 @@ class PolicyRequestEventTest {
         assertNotNull(event.getTimestamp(), "Timestamp should not be null");
         assertNotNull(event.getEventType(), "EventType should not be null");
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testEventIdIsStableAndUniquePerEvent() {
+        PolicyRequestEvent other = new TestPolicyRequestEvent(policyRequestId, customerId, status);
+
+        assertNotNull(event.getEventId());
+        assertEquals(event.getEventId(), event.getEventId());
+        assertNotEquals(event.getEventId(), other.getEventId());
+        assertEquals(7, event.getEventId().version());
+    }
+}
@@ -0,0 +1,64 @@
+package com.insurance.infrastructure.batch;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.insurance.dto.PolicyRequestImportResultDTO;
+import com.insurance.service.PolicyRequestImportService;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@ExtendWith(MockitoExtension.class)
+class PolicyRequestImportRunnerTest {
+
+    @Mock
+    private PolicyRequestImportService importService;
+
+    @Mock
+    private ApplicationContext context;
+
+    @InjectMocks
+    private PolicyRequestImportRunner runner;
+
+    @TempDir
+    Path tempDir;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(runner, "exitOnCompletion", false);
+    }
+
+    @Test
+    void testRunImportsConfiguredFile() throws Exception {
+        Path file = Files.writeString(tempDir.resolve("requests.jsonl"), "{}\n");
+        ReflectionTestUtils.setField(runner, "importFile", file.toString());
+        when(importService.importNdjson(any(InputStream.class))).thenReturn(new PolicyRequestImportResultDTO());
+
+        runner.run(new DefaultApplicationArguments());
+
+        verify(importService).importNdjson(any(InputStream.class));
+    }
+
+    @Test
+    void testRunWithMissingFile() throws Exception {
+        ReflectionTestUtils.setField(runner, "importFile", tempDir.resolve("missing.jsonl").toString());
+
+        assertThrows(NoSuchFileException.class, () -> runner.run(new DefaultApplicationArguments()));
+        verify(importService, never()).importNdjson(any(InputStream.class));
+    }
+}
@@ -0,0 +1,163 @@
+package com.insurance.infrastructure.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.insurance.infrastructure.client.FraudAnalysisClient.FraudAnalysisRequest;
+import com.insurance.infrastructure.client.dto.FraudAnalysisResponse;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.client.RestClientException;
+
+@ExtendWith(MockitoExtension.class)
+class FraudAnalysisBatcherTest {
+
+    @Mock
+    private FraudAnalysisClient fraudAnalysisClient;
+
+    private FraudAnalysisBatcher batcher;
+    private UUID customerId;
+
+    @BeforeEach
+    void setUp() {
+        batcher = new FraudAnalysisBatcher(fraudAnalysisClient, 3, 60_000, 1);
+        customerId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        batcher.shutdown();
+    }
+
+    @Test
+    void testFullBatchIsSentOnceAndSplitByOrderId() throws Exception {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        when(fraudAnalysisClient.analyzeFraudBatch(any()))
+            .thenReturn(List.of(response(third), response(first), response(second)));
+
+        CompletableFuture<FraudAnalysisResponse> firstResult = batcher.submit(first, customerId);
+        CompletableFuture<FraudAnalysisResponse> secondResult = batcher.submit(second, customerId);
+        CompletableFuture<FraudAnalysisResponse> thirdResult = batcher.submit(third, customerId);
+
+        assertEquals(first, firstResult.get(5, TimeUnit.SECONDS).getOrderId());
+        assertEquals(second, secondResult.get(5, TimeUnit.SECONDS).getOrderId());
+        assertEquals(third, thirdResult.get(5, TimeUnit.SECONDS).getOrderId());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<FraudAnalysisRequest>> captor = ArgumentCaptor.forClass(List.class);
+        verify(fraudAnalysisClient).analyzeFraudBatch(captor.capture());
+        assertEquals(List.of(first, second, third), captor.getValue().stream().map(FraudAnalysisRequest::orderId).toList());
+    }
+
+    @Test
+    void testPartialBatchIsSentWhenWindowElapses() throws Exception {
+        batcher.shutdown();
+        batcher = new FraudAnalysisBatcher(fraudAnalysisClient, 50, 10, 1);
+        UUID orderId = UUID.randomUUID();
+        when(fraudAnalysisClient.analyzeFraudBatch(any())).thenReturn(List.of(response(orderId)));
+
+        CompletableFuture<FraudAnalysisResponse> result = batcher.submit(orderId, customerId);
+
+        assertEquals(orderId, result.get(5, TimeUnit.SECONDS).getOrderId());
+        verify(fraudAnalysisClient, timeout(1000)).analyzeFraudBatch(any());
+    }
+
+    @Test
+    void testItemsMissingFromBatchResponseFallBackToSingleCalls() throws Exception {
+        UUID answered = UUID.randomUUID();
+        UUID missing = UUID.randomUUID();
+        FraudAnalysisResponse fallbackResponse = response(missing);
+        when(fraudAnalysisClient.analyzeFraudBatch(any())).thenReturn(List.of(response(answered)));
+        when(fraudAnalysisClient.analyzeFraudAsync(missing, customerId))
+            .thenReturn(CompletableFuture.completedFuture(fallbackResponse));
+
+        CompletableFuture<FraudAnalysisResponse> answeredResult = batcher.submit(answered, customerId);
+        CompletableFuture<FraudAnalysisResponse> missingResult = batcher.submit(missing, customerId);
+        batcher.flush();
+
+        assertEquals(answered, answeredResult.get(5, TimeUnit.SECONDS).getOrderId());
+        assertSame(fallbackResponse, missingResult.get(5, TimeUnit.SECONDS));
+        verify(fraudAnalysisClient, never()).analyzeFraudAsync(answered, customerId);
+    }
+
+    @Test
+    void testFailedBatchFallsBackToSingleCalls() throws Exception {
+        UUID orderId = UUID.randomUUID();
+        FraudAnalysisResponse fallbackResponse = response(orderId);
+        when(fraudAnalysisClient.analyzeFraudBatch(any())).thenThrow(new RestClientException("Batch API Error"));
+        when(fraudAnalysisClient.analyzeFraudAsync(orderId, customerId))
+            .thenReturn(CompletableFuture.completedFuture(fallbackResponse));
+
+        CompletableFuture<FraudAnalysisResponse> result = batcher.submit(orderId, customerId);
+        batcher.flush();
+
+        assertSame(fallbackResponse, result.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void testFallbackFailureIsPropagated() {
+        UUID orderId = UUID.randomUUID();
+        when(fraudAnalysisClient.analyzeFraudBatch(any())).thenReturn(List.of());
+        when(fraudAnalysisClient.analyzeFraudAsync(orderId, customerId))
+            .thenReturn(CompletableFuture.failedFuture(new RestClientException("API Error")));
+
+        CompletableFuture<FraudAnalysisResponse> result = batcher.submit(orderId, customerId);
+        batcher.flush();
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> result.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RestClientException.class, exception.getCause());
+    }
+
+    @Test
+    void testDispatchThreadsStartOnFirstSubmit() {
+        UUID orderId = UUID.randomUUID();
+        when(fraudAnalysisClient.analyzeFraudBatch(any())).thenReturn(List.of(response(orderId)));
+        assertFalse(batcher.isStarted());
+
+        batcher.submit(orderId, customerId);
+
+        assertTrue(batcher.isStarted());
+    }
+
+    @Test
+    void testUnusedBatcherShutsDownWithoutStarting() {
+        FraudAnalysisBatcher unused = new FraudAnalysisBatcher(fraudAnalysisClient, 3, 10, 1);
+
+        unused.shutdown();
+
+        assertFalse(unused.isStarted());
+    }
+
+    @Test
+    void testInvalidMaxSize() {
+        assertThrows(IllegalArgumentException.class, () -> new FraudAnalysisBatcher(fraudAnalysisClient, 0, 10, 1));
+    }
+
+    private FraudAnalysisResponse response(UUID orderId) {
+        FraudAnalysisResponse response = new FraudAnalysisResponse();
+        response.setOrderId(orderId);
+        response.setCustomerId(customerId);
+        return response;
+    }
+}
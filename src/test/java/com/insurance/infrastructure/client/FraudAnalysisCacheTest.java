@@ -0,0 +1,101 @@
+package com.insurance.infrastructure.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.insurance.domain.enums.CustomerRiskType;
+import com.insurance.infrastructure.client.dto.FraudAnalysisResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class FraudAnalysisCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private FraudAnalysisCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new FraudAnalysisCache(meterRegistry, 2, Map.of(
+            CustomerRiskType.REGULAR, Duration.ofMinutes(10),
+            CustomerRiskType.HIGH_RISK, Duration.ofMinutes(1),
+            CustomerRiskType.PREFERRED, Duration.ofHours(1),
+            CustomerRiskType.NO_INFORMATION, Duration.ofMinutes(1)
+        ), nanos::get);
+    }
+
+    @Test
+    void testPutAndGet() {
+        UUID customerId = UUID.randomUUID();
+        FraudAnalysisResponse response = response(CustomerRiskType.REGULAR);
+
+        cache.put(customerId, response);
+
+        var cached = cache.get(customerId).orElseThrow();
+        assertEquals(CustomerRiskType.REGULAR, cached.classification());
+        assertEquals(response.getAnalyzedAt(), cached.analyzedAt());
+        assertTrue(cached.occurrences().isEmpty());
+    }
+
+    @Test
+    void testTtlDependsOnClassification() {
+        UUID highRisk = UUID.randomUUID();
+        UUID preferred = UUID.randomUUID();
+        cache.put(highRisk, response(CustomerRiskType.HIGH_RISK));
+        cache.put(preferred, response(CustomerRiskType.PREFERRED));
+
+        nanos.addAndGet(TimeUnit.MINUTES.toNanos(2));
+
+        assertTrue(cache.get(highRisk).isEmpty());
+        assertTrue(cache.get(preferred).isPresent());
+    }
+
+    @Test
+    void testSizeIsBounded() {
+        for (int i = 0; i < 10; i++) {
+            cache.put(UUID.randomUUID(), response(CustomerRiskType.REGULAR));
+        }
+
+        assertTrue(cache.estimatedSize() <= 2);
+    }
+
+    @Test
+    void testInvalidate() {
+        UUID customerId = UUID.randomUUID();
+        cache.put(customerId, response(CustomerRiskType.REGULAR));
+
+        cache.invalidate(customerId);
+
+        assertTrue(cache.get(customerId).isEmpty());
+    }
+
+    @Test
+    void testHitAndMissMetrics() {
+        UUID customerId = UUID.randomUUID();
+        cache.get(customerId);
+        cache.put(customerId, response(CustomerRiskType.REGULAR));
+        cache.get(customerId);
+
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+            .tags("cache", FraudAnalysisCache.CACHE_NAME, "result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+            .tags("cache", FraudAnalysisCache.CACHE_NAME, "result", "miss").functionCounter().count());
+    }
+
+    private FraudAnalysisResponse response(CustomerRiskType classification) {
+        FraudAnalysisResponse response = new FraudAnalysisResponse();
+        response.setClassification(classification);
+        response.setAnalyzedAt(LocalDateTime.now());
+        response.setOccurrences(new ArrayList<>());
+        return response;
+    }
+}
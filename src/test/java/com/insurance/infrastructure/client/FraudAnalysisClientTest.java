@@ -1,23 +1,46 @@
 package com.insurance.infrastructure.client;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.insurance.domain.enums.CustomerRiskType;
 import com.insurance.infrastructure.client.dto.FraudAnalysisResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.client.RestClientException;
@@ -29,6 +52,18 @@ class FraudAnalysisClientTest {
     @Mock
     private RestTemplate restTemplate;
 
+    @Mock
+    private HttpClient fraudHttpClient;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private HedgingPolicy hedgingPolicy = new HedgingPolicy(new SimpleMeterRegistry(), false, 0.95, 0.05, 200, 20, 64);
+
     @InjectMocks
     private FraudAnalysisClient fraudAnalysisClient;
 
@@ -44,6 +79,7 @@ class FraudAnalysisClientTest {
         fraudApiUrl = "http://fraud-api/analyze";
         
         ReflectionTestUtils.setField(fraudAnalysisClient, "fraudApiUrl", fraudApiUrl);
+        ReflectionTestUtils.setField(fraudAnalysisClient, "readTimeoutMs", 1500L);
         
         mockResponse = new FraudAnalysisResponse();
         mockResponse.setOrderId(orderId);
@@ -111,4 +147,243 @@ class FraudAnalysisClientTest {
         assertEquals(orderId, request.orderId());
         assertEquals(customerId, request.customerId());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testAnalyzeFraudBatch() {
+        String batchUrl = "http://fraud-api/analyze/batch";
+        ReflectionTestUtils.setField(fraudAnalysisClient, "fraudBatchApiUrl", batchUrl);
+        var requests = List.of(new FraudAnalysisClient.FraudAnalysisRequest(orderId, customerId));
+        when(restTemplate.postForObject(batchUrl, requests, FraudAnalysisResponse[].class))
+            .thenReturn(new FraudAnalysisResponse[] {mockResponse});
+
+        List<FraudAnalysisResponse> responses = fraudAnalysisClient.analyzeFraudBatch(requests);
+
+        assertEquals(List.of(mockResponse), responses);
+    }
+
+    @Test
+    void testAnalyzeFraudBatchWithoutUrl() {
+        var requests = List.of(new FraudAnalysisClient.FraudAnalysisRequest(orderId, customerId));
+
+        assertThrows(IllegalStateException.class, () -> fraudAnalysisClient.analyzeFraudBatch(requests));
+    }
+
+    @Test
+    void testAnalyzeFraudAsyncSuccessful() throws Exception {
+        stubAsyncResponse(200, objectMapper.writeValueAsBytes(mockResponse));
+
+        FraudAnalysisResponse response = fraudAnalysisClient.analyzeFraudAsync(orderId, customerId).get();
+
+        assertEquals(orderId, response.getOrderId());
+        assertEquals(CustomerRiskType.REGULAR, response.getClassification());
+
+        ArgumentCaptor<HttpRequest> requestCaptor = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(fraudHttpClient).sendAsync(requestCaptor.capture(), any());
+        HttpRequest sent = requestCaptor.getValue();
+        assertEquals("POST", sent.method());
+        assertEquals(fraudApiUrl, sent.uri().toString());
+        assertEquals(Duration.ofMillis(1500), sent.timeout().orElseThrow());
+    }
+
+    @Test
+    void testAnalyzeFraudAsyncErrorStatus() {
+        stubAsyncResponse(503, new byte[0]);
+
+        CompletableFuture<FraudAnalysisResponse> future = fraudAnalysisClient.analyzeFraudAsync(orderId, customerId);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(RestClientException.class, exception.getCause());
+    }
+
+    @Test
+    void testAnalyzeFraudAsyncUnreadableBody() {
+        stubAsyncResponse(200, "not-json".getBytes());
+
+        CompletableFuture<FraudAnalysisResponse> future = fraudAnalysisClient.analyzeFraudAsync(orderId, customerId);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(RestClientException.class, exception.getCause());
+    }
+
+    @Test
+    void testConcurrentAsyncLookupsForSameCustomerAreCoalesced() throws Exception {
+        CompletableFuture<HttpResponse<byte[]>> pending = new CompletableFuture<>();
+        doReturn(pending).when(fraudHttpClient).sendAsync(any(HttpRequest.class), any());
+
+        CompletableFuture<FraudAnalysisResponse> first = fraudAnalysisClient.analyzeFraudAsync(orderId, customerId);
+        CompletableFuture<FraudAnalysisResponse> second =
+            fraudAnalysisClient.analyzeFraudAsync(UUID.randomUUID(), customerId);
+
+        pending.complete(httpResponse(200, objectMapper.writeValueAsBytes(mockResponse)));
+
+        assertEquals(CustomerRiskType.REGULAR, first.get().getClassification());
+        assertEquals(CustomerRiskType.REGULAR, second.get().getClassification());
+        verify(fraudHttpClient, times(1)).sendAsync(any(HttpRequest.class), any());
+        assertEquals(1.0, meterRegistry.get("fraud.client.coalesced").counter().count());
+    }
+
+    @Test
+    void testCoalescedCallerReceivesItsOwnOrderId() throws Exception {
+        UUID otherOrderId = UUID.randomUUID();
+        CompletableFuture<HttpResponse<byte[]>> pending = new CompletableFuture<>();
+        doReturn(pending).when(fraudHttpClient).sendAsync(any(HttpRequest.class), any());
+
+        CompletableFuture<FraudAnalysisResponse> first = fraudAnalysisClient.analyzeFraudAsync(orderId, customerId);
+        CompletableFuture<FraudAnalysisResponse> second =
+            fraudAnalysisClient.analyzeFraudAsync(otherOrderId, customerId);
+
+        pending.complete(httpResponse(200, objectMapper.writeValueAsBytes(mockResponse)));
+
+        assertEquals(orderId, first.get().getOrderId());
+        assertEquals(otherOrderId, second.get().getOrderId());
+        assertEquals(customerId, second.get().getCustomerId());
+        verify(fraudHttpClient, times(1)).sendAsync(any(HttpRequest.class), any());
+    }
+
+    @Test
+    void testBlockingLookupJoinsInFlightRequest() throws Exception {
+        CompletableFuture<HttpResponse<byte[]>> pending = new CompletableFuture<>();
+        doReturn(pending).when(fraudHttpClient).sendAsync(any(HttpRequest.class), any());
+
+        CompletableFuture<FraudAnalysisResponse> leader = fraudAnalysisClient.analyzeFraudAsync(orderId, customerId);
+        CompletableFuture<FraudAnalysisResponse> follower =
+            CompletableFuture.supplyAsync(() -> fraudAnalysisClient.analyzeFraud(orderId, customerId));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("fraud.client.coalesced").counter().count() < 1 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+
+        pending.complete(httpResponse(200, objectMapper.writeValueAsBytes(mockResponse)));
+
+        assertEquals(customerId, follower.get(5, TimeUnit.SECONDS).getCustomerId());
+        assertEquals(customerId, leader.get().getCustomerId());
+        verify(restTemplate, never()).postForObject(any(String.class), any(), any());
+    }
+
+    @Test
+    void testCoalescedCallersShareFailure() {
+        CompletableFuture<HttpResponse<byte[]>> pending = new CompletableFuture<>();
+        doReturn(pending).when(fraudHttpClient).sendAsync(any(HttpRequest.class), any());
+
+        CompletableFuture<FraudAnalysisResponse> first = fraudAnalysisClient.analyzeFraudAsync(orderId, customerId);
+        CompletableFuture<FraudAnalysisResponse> second = fraudAnalysisClient.analyzeFraudAsync(orderId, customerId);
+
+        pending.complete(httpResponse(500, null));
+
+        assertInstanceOf(RestClientException.class, assertThrows(ExecutionException.class, first::get).getCause());
+        assertInstanceOf(RestClientException.class, assertThrows(ExecutionException.class, second::get).getCause());
+    }
+
+    @Test
+    void testCompletedLookupIsNotReused() {
+        when(restTemplate.postForObject(
+            eq(fraudApiUrl),
+            any(FraudAnalysisClient.FraudAnalysisRequest.class),
+            eq(FraudAnalysisResponse.class)
+        )).thenReturn(mockResponse);
+
+        assertSame(mockResponse, fraudAnalysisClient.analyzeFraud(orderId, customerId));
+        assertSame(mockResponse, fraudAnalysisClient.analyzeFraud(orderId, customerId));
+
+        verify(restTemplate, times(2)).postForObject(
+            eq(fraudApiUrl),
+            any(FraudAnalysisClient.FraudAnalysisRequest.class),
+            eq(FraudAnalysisResponse.class)
+        );
+        assertEquals(0.0, meterRegistry.get("fraud.client.coalesced").counter().count());
+    }
+
+    @Test
+    void testSlowLookupIsAnsweredByHedge() throws Exception {
+        enableHedging(1.0);
+        CompletableFuture<HttpResponse<byte[]>> slow = new CompletableFuture<>();
+        HttpResponse<byte[]> fast = httpResponse(200, objectMapper.writeValueAsBytes(mockResponse));
+        doReturn(slow)
+            .doReturn(CompletableFuture.completedFuture(fast))
+            .when(fraudHttpClient).sendAsync(any(HttpRequest.class), any());
+
+        FraudAnalysisResponse response = fraudAnalysisClient.analyzeFraudAsync(orderId, customerId)
+            .get(5, TimeUnit.SECONDS);
+
+        assertEquals(orderId, response.getOrderId());
+        verify(fraudHttpClient, times(2)).sendAsync(any(HttpRequest.class), any());
+        verify(hedgingPolicy, timeout(1000)).recordHedgeWin();
+    }
+
+    @Test
+    void testBlockingLookupIsHedgedWhenEnabled() throws Exception {
+        enableHedging(1.0);
+        CompletableFuture<HttpResponse<byte[]>> slow = new CompletableFuture<>();
+        HttpResponse<byte[]> fast = httpResponse(200, objectMapper.writeValueAsBytes(mockResponse));
+        doReturn(slow)
+            .doReturn(CompletableFuture.completedFuture(fast))
+            .when(fraudHttpClient).sendAsync(any(HttpRequest.class), any());
+
+        FraudAnalysisResponse response = fraudAnalysisClient.analyzeFraud(orderId, customerId);
+
+        assertEquals(orderId, response.getOrderId());
+        verify(fraudHttpClient, times(2)).sendAsync(any(HttpRequest.class), any());
+        verify(restTemplate, never()).postForObject(any(String.class), any(), any());
+    }
+
+    @Test
+    void testLookupCompletesWhenRecordingLatencyFails() throws Exception {
+        enableHedging(0.0);
+        doThrow(new IllegalStateException("boom")).when(hedgingPolicy).recordLatency(anyLong());
+        stubAsyncResponse(200, objectMapper.writeValueAsBytes(mockResponse));
+
+        FraudAnalysisResponse response = fraudAnalysisClient.analyzeFraudAsync(orderId, customerId)
+            .get(5, TimeUnit.SECONDS);
+
+        assertEquals(orderId, response.getOrderId());
+    }
+
+    @Test
+    void testFastLookupIsNotHedged() throws Exception {
+        enableHedging(1.0);
+        stubAsyncResponse(200, objectMapper.writeValueAsBytes(mockResponse));
+
+        fraudAnalysisClient.analyzeFraudAsync(orderId, customerId).get(5, TimeUnit.SECONDS);
+        Thread.sleep(50);
+
+        verify(fraudHttpClient, times(1)).sendAsync(any(HttpRequest.class), any());
+        verify(hedgingPolicy, never()).tryAcquireHedge();
+    }
+
+    @Test
+    void testHedgedLookupFailsWhenOnlyAttemptFails() {
+        enableHedging(0.0);
+        stubAsyncResponse(500, null);
+
+        CompletableFuture<FraudAnalysisResponse> future = fraudAnalysisClient.analyzeFraudAsync(orderId, customerId);
+
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(RestClientException.class, exception.getCause());
+    }
+
+    private void enableHedging(double budget) {
+        hedgingPolicy = spy(new HedgingPolicy(new SimpleMeterRegistry(), true, 0.95, budget, 10, 1, 64));
+        ReflectionTestUtils.setField(fraudAnalysisClient, "hedgingPolicy", hedgingPolicy);
+    }
+
+    @SuppressWarnings("unchecked")
+    private HttpResponse<byte[]> httpResponse(int status, byte[] body) {
+        HttpResponse<byte[]> httpResponse = mock(HttpResponse.class);
+        when(httpResponse.statusCode()).thenReturn(status);
+        if (body != null) {
+            when(httpResponse.body()).thenReturn(body);
+        }
+        return httpResponse;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubAsyncResponse(int status, byte[] body) {
+        HttpResponse<byte[]> httpResponse = mock(HttpResponse.class);
+        when(httpResponse.statusCode()).thenReturn(status);
+        if (status == 200) {
+            when(httpResponse.body()).thenReturn(body);
+        }
+        doReturn(CompletableFuture.completedFuture(httpResponse))
+            .when(fraudHttpClient).sendAsync(any(HttpRequest.class), any());
+    }
+}
@@ -0,0 +1,98 @@
+package com.insurance.infrastructure.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.insurance.infrastructure.client.config.FraudProviderProperties;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClientException;
+
+class FraudProviderGuardTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private FraudProviderGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        FraudProviderProperties properties = new FraudProviderProperties();
+        properties.getCircuitBreaker().setSlidingWindowSize(4);
+        properties.getCircuitBreaker().setMinimumNumberOfCalls(4);
+        properties.getCircuitBreaker().setWaitDurationInOpenStateMs(60000);
+        properties.getBulkhead().setMaxConcurrentCalls(1);
+
+        meterRegistry = new SimpleMeterRegistry();
+        guard = new FraudProviderGuard(properties, meterRegistry);
+    }
+
+    @Test
+    void testCallPassesThrough() {
+        assertEquals("ok", guard.call(() -> "ok"));
+        assertEquals(CircuitBreaker.State.CLOSED, guard.getState());
+    }
+
+    @Test
+    void testProviderErrorsArePropagated() {
+        assertThrows(RestClientException.class, () -> guard.call(this::fail));
+    }
+
+    @Test
+    void testCircuitOpensAfterFailuresAndRejectsCalls() {
+        for (int i = 0; i < 4; i++) {
+            assertThrows(RestClientException.class, () -> guard.call(this::fail));
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, guard.getState());
+        assertThrows(FraudProviderUnavailableException.class, () -> guard.call(() -> "ok"));
+        assertEquals(1.0, meterRegistry.get("fraud.provider.rejected").tag("reason", "circuit_open").counter().count());
+        assertEquals(1.0, meterRegistry.get("fraud.provider.state.transitions")
+            .tags("from", "CLOSED", "to", "OPEN").counter().count());
+    }
+
+    @Test
+    void testInvalidRequestsDoNotOpenCircuit() {
+        for (int i = 0; i < 4; i++) {
+            assertThrows(IllegalArgumentException.class, () -> guard.call(() -> {
+                throw new IllegalArgumentException("invalid");
+            }));
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, guard.getState());
+    }
+
+    @Test
+    void testBulkheadRejectsCallsAboveConcurrencyLimit() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> blocked = CompletableFuture.supplyAsync(() -> guard.call(() -> {
+            started.countDown();
+            await(release);
+            return "slow";
+        }));
+        started.await(5, TimeUnit.SECONDS);
+
+        assertThrows(FraudProviderUnavailableException.class, () -> guard.call(() -> "ok"));
+        assertEquals(1.0, meterRegistry.get("fraud.provider.rejected").tag("reason", "bulkhead_full").counter().count());
+
+        release.countDown();
+        assertEquals("slow", blocked.get(5, TimeUnit.SECONDS));
+        assertEquals(CircuitBreaker.State.CLOSED, guard.getState());
+    }
+
+    private String fail() {
+        throw new RestClientException("API Error");
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.insurance.infrastructure.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class HedgingPolicyTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void testInitialDelayIsUsedUntilEnoughSamples() {
+        HedgingPolicy policy = new HedgingPolicy(meterRegistry, true, 0.95, 0.05, 200, 20, 128);
+
+        assertEquals(200, policy.delayMillis());
+    }
+
+    @Test
+    void testDelayFollowsLatencyPercentile() {
+        HedgingPolicy policy = new HedgingPolicy(meterRegistry, true, 0.9, 0.05, 200, 1, 128);
+
+        for (int i = 1; i <= 128; i++) {
+            policy.recordLatency(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        assertEquals(116, policy.delayMillis());
+    }
+
+    @Test
+    void testDelayTracksMostRecentWindowAfterItFills() {
+        HedgingPolicy policy = new HedgingPolicy(meterRegistry, true, 0.5, 0.05, 200, 1, 64);
+
+        for (int i = 0; i < 64 * 10; i++) {
+            policy.recordLatency(TimeUnit.MILLISECONDS.toNanos(100));
+        }
+        for (int i = 0; i < 64; i++) {
+            policy.recordLatency(TimeUnit.MILLISECONDS.toNanos(30));
+        }
+
+        assertEquals(30, policy.delayMillis());
+    }
+
+    @Test
+    void testDelayIsNeverBelowMinimum() {
+        HedgingPolicy policy = new HedgingPolicy(meterRegistry, true, 0.95, 0.05, 200, 20, 64);
+
+        for (int i = 0; i < 64; i++) {
+            policy.recordLatency(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+
+        assertEquals(20, policy.delayMillis());
+    }
+
+    @Test
+    void testHedgesAreCappedByBudget() {
+        HedgingPolicy policy = new HedgingPolicy(meterRegistry, true, 0.95, 0.1, 200, 20, 64);
+
+        int hedges = 0;
+        for (int i = 0; i < 100; i++) {
+            policy.onRequest();
+            if (policy.tryAcquireHedge()) {
+                hedges++;
+            }
+        }
+
+        assertEquals(10, hedges, 1);
+        assertEquals(hedges, meterRegistry.get("fraud.client.hedge.sent").counter().count());
+    }
+
+    @Test
+    void testNoHedgeWithoutBudget() {
+        HedgingPolicy policy = new HedgingPolicy(meterRegistry, true, 0.95, 0.05, 200, 20, 64);
+
+        policy.onRequest();
+
+        assertFalse(policy.tryAcquireHedge());
+    }
+
+    @Test
+    void testHedgeWinsAreCounted() {
+        HedgingPolicy policy = new HedgingPolicy(meterRegistry, true, 0.95, 0.05, 200, 20, 64);
+
+        policy.recordHedgeWin();
+
+        assertEquals(1.0, meterRegistry.get("fraud.client.hedge.wins").counter().count());
+        assertTrue(policy.isEnabled());
+    }
+
+    @Test
+    void testInvalidPercentile() {
+        assertThrows(IllegalArgumentException.class, () ->
+            new HedgingPolicy(meterRegistry, true, 1.0, 0.05, 200, 20, 64));
+    }
+
+    @Test
+    void testInvalidWindowSize() {
+        assertThrows(IllegalArgumentException.class, () ->
+            new HedgingPolicy(meterRegistry, true, 0.95, 0.05, 200, 20, 0));
+    }
+}
@@ -0,0 +1,51 @@
+package com.insurance.infrastructure.client.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+class FraudAnalysisClientConfigTest {
+
+    private final FraudAnalysisClientConfig config = new FraudAnalysisClientConfig();
+
+    @AfterEach
+    void tearDown() {
+        config.shutdownFraudHttpExecutor();
+    }
+
+    @Test
+    void testFraudHttpClient() {
+        HttpClient httpClient = config.fraudHttpClient(2, 750);
+
+        assertEquals(Duration.ofMillis(750), httpClient.connectTimeout().orElseThrow());
+        assertInstanceOf(ExecutorService.class, httpClient.executor().orElseThrow());
+        assertEquals(HttpClient.Version.HTTP_1_1, httpClient.version());
+    }
+
+    @Test
+    void testExecutorIsShutDownWithConfig() {
+        HttpClient httpClient = config.fraudHttpClient(2, 750);
+        ExecutorService executor = (ExecutorService) httpClient.executor().orElseThrow();
+
+        config.shutdownFraudHttpExecutor();
+
+        assertTrue(executor.isShutdown());
+    }
+
+    @Test
+    void testRestTemplateUsesJdkRequestFactory() {
+        HttpClient httpClient = config.fraudHttpClient(2, 750);
+
+        RestTemplate restTemplate = config.restTemplate(httpClient, 1500);
+
+        assertInstanceOf(JdkClientHttpRequestFactory.class, restTemplate.getRequestFactory());
+    }
+}
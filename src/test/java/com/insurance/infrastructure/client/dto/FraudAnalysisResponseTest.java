@@ -218,4 +218,19 @@ class FraudAnalysisResponseTest {
             assertEquals(type, riskOccurrenceResponse.getType());
         }
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testWithOrderIdCopiesResponseForAnotherOrder() {
+        fraudAnalysisResponse.setOccurrences(List.of(riskOccurrenceResponse));
+        UUID otherOrderId = UUID.randomUUID();
+
+        FraudAnalysisResponse copy = fraudAnalysisResponse.withOrderId(otherOrderId);
+
+        assertEquals(otherOrderId, copy.getOrderId());
+        assertEquals(orderId, fraudAnalysisResponse.getOrderId());
+        assertEquals(customerId, copy.getCustomerId());
+        assertEquals(analyzedAt, copy.getAnalyzedAt());
+        assertEquals(CustomerRiskType.REGULAR, copy.getClassification());
+        assertEquals(List.of(riskOccurrenceResponse), copy.getOccurrences());
+    }
+}
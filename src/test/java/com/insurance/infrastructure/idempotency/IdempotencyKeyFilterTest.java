@@ -0,0 +1,193 @@
+package com.insurance.infrastructure.idempotency;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurance.infrastructure.idempotency.IdempotencyStore.Claim;
+import com.insurance.infrastructure.idempotency.IdempotencyStore.StoredResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyKeyFilterTest {
+
+    private static final String CREATE_PATH = "/api/v1/policy-requests";
+
+    @Mock
+    private IdempotencyStore store;
+
+    private IdempotencyKeyFilter filter;
+    private MockHttpServletResponse response;
+
+    @BeforeEach
+    void setUp() {
+        filter = new IdempotencyKeyFilter(store, new ObjectMapper());
+        response = new MockHttpServletResponse();
+    }
+
+    @Test
+    void testRequestWithoutKeyPassesThrough() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("POST", CREATE_PATH), response, chain);
+
+        assertEquals(CREATE_PATH, ((MockHttpServletRequest) chain.getRequest()).getRequestURI());
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    void testOtherEndpointsAreNotDeduplicated() throws Exception {
+        MockHttpServletRequest request = request("/api/v1/policy-requests/" + UUID.randomUUID() + "/cancel");
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        verifyNoInteractions(store);
+    }
+
+    @Test
+    void testFirstRequestRunsAndStoresResponse() throws Exception {
+        when(store.claim(any(UUID.class), any(byte[].class))).thenReturn(Claim.acquired());
+        FilterChain chain = (req, res) -> {
+            ((HttpServletResponse) res).setStatus(201);
+            res.setContentType("application/json");
+            res.getOutputStream().write("{\"id\":\"1\"}".getBytes(StandardCharsets.UTF_8));
+        };
+
+        filter.doFilter(request(CREATE_PATH), response, chain);
+
+        ArgumentCaptor<StoredResponse> stored = ArgumentCaptor.forClass(StoredResponse.class);
+        verify(store).complete(any(UUID.class), any(byte[].class), stored.capture());
+        assertEquals(201, stored.getValue().status());
+        assertEquals("{\"id\":\"1\"}", new String(stored.getValue().body(), StandardCharsets.UTF_8));
+        assertEquals("{\"id\":\"1\"}", response.getContentAsString());
+        assertNull(response.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void testReplayReturnsStoredResponseWithoutRunningChain() throws Exception {
+        byte[] body = "{\"id\":\"1\"}".getBytes(StandardCharsets.UTF_8);
+        when(store.claim(any(UUID.class), any(byte[].class))).thenReturn(Claim.replay(new StoredResponse(201, "application/json", body)));
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request(CREATE_PATH), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(201, response.getStatus());
+        assertEquals("{\"id\":\"1\"}", response.getContentAsString());
+        assertEquals("true", response.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    void testConcurrentRetryGetsConflict() throws Exception {
+        when(store.claim(any(UUID.class), any(byte[].class))).thenReturn(Claim.inProgress());
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request("/api/v1/policy-requests/" + UUID.randomUUID() + "/payment"), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(409, response.getStatus());
+    }
+
+    @Test
+    void testKeyReusedWithDifferentBodyIsUnprocessable() throws Exception {
+        when(store.claim(any(UUID.class), any(byte[].class))).thenReturn(Claim.mismatch());
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request(CREATE_PATH), response, chain);
+
+        assertNull(chain.getRequest());
+        assertEquals(422, response.getStatus());
+    }
+
+    @Test
+    void testClaimCarriesBodyDigestAndChainStillReadsBody() throws Exception {
+        byte[] body = "{\"customerId\":\"1\"}".getBytes(StandardCharsets.UTF_8);
+        MockHttpServletRequest request = request(CREATE_PATH);
+        request.setContent(body);
+        when(store.claim(any(UUID.class), any(byte[].class))).thenReturn(Claim.acquired());
+        ByteArrayOutputStream seen = new ByteArrayOutputStream();
+        FilterChain chain = (req, res) -> req.getInputStream().transferTo(seen);
+
+        filter.doFilter(request, response, chain);
+
+        ArgumentCaptor<byte[]> digest = ArgumentCaptor.forClass(byte[].class);
+        verify(store).claim(any(UUID.class), digest.capture());
+        assertArrayEquals(IdempotencyStore.requestDigest(body), digest.getValue());
+        assertArrayEquals(body, seen.toByteArray());
+    }
+
+    @Test
+    void testFailedRequestReleasesKey() throws Exception {
+        when(store.claim(any(UUID.class), any(byte[].class))).thenReturn(Claim.acquired());
+        FilterChain chain = (req, res) -> ((HttpServletResponse) res).setStatus(422);
+
+        filter.doFilter(request(CREATE_PATH), response, chain);
+
+        verify(store).release(any(UUID.class));
+        verify(store, never()).complete(any(UUID.class), any(byte[].class), any(StoredResponse.class));
+        assertEquals(422, response.getStatus());
+    }
+
+    @Test
+    void testExceptionReleasesKey() {
+        when(store.claim(any(UUID.class), any(byte[].class))).thenReturn(Claim.acquired());
+        FilterChain chain = (req, res) -> {
+            throw new IllegalStateException("boom");
+        };
+
+        assertThrows(IllegalStateException.class, () -> filter.doFilter(request(CREATE_PATH), response, chain));
+
+        verify(store).release(any(UUID.class));
+    }
+
+    @Test
+    void testSameKeyOnDifferentCommandsIsScopedSeparately() throws Exception {
+        when(store.claim(any(UUID.class), any(byte[].class))).thenReturn(Claim.acquired());
+        UUID id = UUID.randomUUID();
+
+        filter.doFilter(request("/api/v1/policy-requests/" + id + "/payment"), response, new MockFilterChain());
+        filter.doFilter(request("/api/v1/policy-requests/" + id + "/subscription"),
+            new MockHttpServletResponse(), new MockFilterChain());
+
+        verify(store).claim(eq(IdempotencyStore.keyFor("POST /api/v1/policy-requests/" + id + "/payment", "key-1")), any(byte[].class));
+        verify(store).claim(eq(IdempotencyStore.keyFor("POST /api/v1/policy-requests/" + id + "/subscription", "key-1")), any(byte[].class));
+    }
+
+    @Test
+    void testOverlongKeyIsRejected() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", CREATE_PATH);
+        request.addHeader(IdempotencyKeyFilter.HEADER, "x".repeat(IdempotencyKeyFilter.MAX_KEY_LENGTH + 1));
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertEquals(400, response.getStatus());
+        verifyNoInteractions(store);
+    }
+
+    private MockHttpServletRequest request(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.addHeader(IdempotencyKeyFilter.HEADER, "key-1");
+        return request;
+    }
+}
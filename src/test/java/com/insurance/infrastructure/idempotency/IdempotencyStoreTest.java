@@ -0,0 +1,198 @@
+package com.insurance.infrastructure.idempotency;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.insurance.domain.IdempotencyRecord;
+import com.insurance.infrastructure.idempotency.IdempotencyStore.Claim;
+import com.insurance.infrastructure.idempotency.IdempotencyStore.StoredResponse;
+import com.insurance.repository.IdempotencyRecordRepository;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyStoreTest {
+
+    @Mock
+    private IdempotencyRecordRepository repository;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2024-03-01T10:00:00Z"), ZoneOffset.UTC);
+    private final LocalDateTime now = LocalDateTime.now(clock);
+
+    private IdempotencyStore store;
+    private UUID key;
+    private byte[] digest;
+
+    @BeforeEach
+    void setUp() {
+        store = new IdempotencyStore(repository, Duration.ofHours(24), Duration.ofSeconds(30), 100, clock);
+        key = IdempotencyStore.keyFor("POST /api/v1/policy-requests", "abc-123");
+        digest = IdempotencyStore.requestDigest("{\"customerId\":\"1\"}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testKeyDependsOnScope() {
+        assertEquals(key, IdempotencyStore.keyFor("POST /api/v1/policy-requests", "abc-123"));
+        assertNotEquals(key, IdempotencyStore.keyFor("POST /api/v1/policy-requests/1/payment", "abc-123"));
+    }
+
+    @Test
+    void testFirstClaimIsAcquired() {
+        Claim claim = store.claim(key, digest);
+
+        assertEquals(Claim.Outcome.ACQUIRED, claim.outcome());
+        verify(repository).saveAndFlush(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    void testClaimHeldElsewhereIsInProgress() {
+        when(repository.saveAndFlush(any(IdempotencyRecord.class)))
+            .thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(repository.findById(key)).thenReturn(Optional.of(record(false, now.plusSeconds(10))));
+
+        assertEquals(Claim.Outcome.IN_PROGRESS, store.claim(key, digest).outcome());
+    }
+
+    @Test
+    void testCompletedRowIsReplayedAndCached() {
+        IdempotencyRecord completed = record(true, now.plusHours(1));
+        completed.setResponseStatus(201);
+        completed.setContentType("application/json");
+        completed.setResponseBody("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+        when(repository.saveAndFlush(any(IdempotencyRecord.class)))
+            .thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(repository.findById(key)).thenReturn(Optional.of(completed));
+
+        Claim first = store.claim(key, digest);
+        Claim second = store.claim(key, digest);
+
+        assertEquals(Claim.Outcome.REPLAY, first.outcome());
+        assertEquals(201, first.response().status());
+        assertArrayEquals(completed.getResponseBody(), second.response().body());
+        verify(repository, times(1)).findById(key);
+    }
+
+    @Test
+    void testFirstClaimRecordsRequestDigest() {
+        ArgumentCaptor<IdempotencyRecord> saved = ArgumentCaptor.forClass(IdempotencyRecord.class);
+
+        store.claim(key, digest);
+
+        verify(repository).saveAndFlush(saved.capture());
+        assertArrayEquals(digest, saved.getValue().getRequestDigest());
+    }
+
+    @Test
+    void testClaimWithDifferentBodyIsMismatch() {
+        IdempotencyRecord completed = record(true, now.plusHours(1));
+        completed.setRequestDigest(digest);
+        completed.setResponseStatus(201);
+        when(repository.saveAndFlush(any(IdempotencyRecord.class)))
+            .thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(repository.findById(key)).thenReturn(Optional.of(completed));
+
+        Claim claim = store.claim(key, IdempotencyStore.requestDigest(new byte[0]));
+
+        assertEquals(Claim.Outcome.MISMATCH, claim.outcome());
+    }
+
+    @Test
+    void testCachedResponseChecksRequestDigest() {
+        when(repository.complete(eq(key), eq(200), any(), any(), eq(now.plusHours(24)))).thenReturn(1);
+
+        store.complete(key, digest, new StoredResponse(200, null, new byte[0]));
+
+        assertEquals(Claim.Outcome.REPLAY, store.claim(key, digest).outcome());
+        assertEquals(Claim.Outcome.MISMATCH, store.claim(key, IdempotencyStore.requestDigest(new byte[0])).outcome());
+        verify(repository, never()).saveAndFlush(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    void testRowWithoutDigestIsReplayed() {
+        IdempotencyRecord completed = record(true, now.plusHours(1));
+        completed.setResponseStatus(201);
+        when(repository.saveAndFlush(any(IdempotencyRecord.class)))
+            .thenThrow(new DataIntegrityViolationException("duplicate key"));
+        when(repository.findById(key)).thenReturn(Optional.of(completed));
+
+        assertEquals(Claim.Outcome.REPLAY, store.claim(key, digest).outcome());
+    }
+
+    @Test
+    void testExpiredClaimIsTakenOver() {
+        when(repository.saveAndFlush(any(IdempotencyRecord.class)))
+            .thenThrow(new DataIntegrityViolationException("duplicate key"))
+            .thenReturn(new IdempotencyRecord());
+        when(repository.findById(key)).thenReturn(Optional.of(record(false, now.minusSeconds(1))));
+
+        assertEquals(Claim.Outcome.ACQUIRED, store.claim(key, digest).outcome());
+        verify(repository).deleteIfExpired(key, now);
+    }
+
+    @Test
+    void testCompletedResponseIsServedFromMemory() {
+        StoredResponse response = new StoredResponse(200, null, new byte[0]);
+        when(repository.complete(eq(key), eq(200), any(), any(), eq(now.plusHours(24)))).thenReturn(1);
+
+        store.claim(key, digest);
+        store.complete(key, digest, response);
+        Claim replay = store.claim(key, digest);
+
+        assertEquals(Claim.Outcome.REPLAY, replay.outcome());
+        verify(repository, times(1)).saveAndFlush(any(IdempotencyRecord.class));
+        verify(repository, never()).findById(any());
+    }
+
+    @Test
+    void testExpiredClaimIsNotCachedOnComplete() {
+        when(repository.complete(eq(key), anyInt(), any(), any(), any())).thenReturn(0);
+
+        store.complete(key, digest, new StoredResponse(200, null, new byte[0]));
+        store.claim(key, digest);
+
+        verify(repository).saveAndFlush(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    void testReleaseDeletesClaim() {
+        store.release(key);
+
+        verify(repository).deleteClaim(key);
+    }
+
+    @Test
+    void testPurgeDeletesExpiredRows() {
+        store.purgeExpired();
+
+        verify(repository).deleteExpired(now);
+    }
+
+    private IdempotencyRecord record(boolean completed, LocalDateTime expiresAt) {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setId(key);
+        record.setCompleted(completed);
+        record.setExpiresAt(expiresAt);
+        return record;
+    }
+}
@@ -0,0 +1,46 @@
+package com.insurance.infrastructure.messaging.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.support.ListenerExecutionFailedException;
+import org.springframework.boot.autoconfigure.amqp.RabbitProperties;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
+
+class PipelineListenerConfigTest {
+
+    @Test
+    void testStageFactoryRetriesBatchesBeforeRejecting() {
+        SimpleRabbitListenerContainerFactory factory = PipelineListenerConfig.stageFactory(
+            new SimpleRabbitListenerContainerFactoryConfigurer(new RabbitProperties()),
+            mock(ConnectionFactory.class),
+            new PipelineConsumerProperties.Stage(),
+            new PipelineConsumerProperties.Retry());
+
+        assertEquals(1, factory.getAdviceChain().length);
+        assertInstanceOf(MethodInterceptor.class, factory.getAdviceChain()[0]);
+    }
+
+    @Test
+    void testExhaustedBatchIsRejectedWithoutRequeue() {
+        List<Message> batch = List.of(new Message(new byte[0], new MessageProperties()),
+                                      new Message(new byte[0], new MessageProperties()));
+
+        ListenerExecutionFailedException e = assertThrows(ListenerExecutionFailedException.class, () ->
+            new PipelineListenerConfig.RejectAndDontRequeueBatchRecoverer()
+                .recover(batch, new IllegalArgumentException("boom")));
+
+        assertInstanceOf(AmqpRejectAndDontRequeueException.class, e.getCause());
+        assertEquals(2, e.getFailedMessages().size());
+    }
+}
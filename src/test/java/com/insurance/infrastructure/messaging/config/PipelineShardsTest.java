@@ -0,0 +1,106 @@
+package com.insurance.infrastructure.messaging.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.insurance.domain.PolicyRequest;
+import com.insurance.event.PolicyRequestCreatedEvent;
+import com.insurance.event.PolicyRequestEvent;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class PipelineShardsTest {
+
+    @Test
+    void testShardOfIsEmptyWhenDisabled() {
+        PipelineShards shards = new PipelineShards(new PipelineShardingProperties());
+
+        assertTrue(shards.shardOf(event(UUID.randomUUID(), UUID.randomUUID())).isEmpty());
+    }
+
+    @Test
+    void testSameKeyAlwaysMapsToSameShard() {
+        PipelineShards shards = new PipelineShards(properties(8));
+        UUID policyRequestId = UUID.randomUUID();
+
+        int shard = shards.shardOf(event(policyRequestId, UUID.randomUUID())).getAsInt();
+
+        assertTrue(shard >= 0 && shard < 8);
+        assertEquals(shard, shards.shardOf(event(policyRequestId, UUID.randomUUID())).getAsInt());
+    }
+
+    @Test
+    void testCustomerKeyGroupsRequestsOfSameCustomer() {
+        PipelineShardingProperties properties = properties(8);
+        properties.setKey(PipelineShardingProperties.ShardKey.CUSTOMER);
+        PipelineShards shards = new PipelineShards(properties);
+        UUID customerId = UUID.randomUUID();
+
+        assertEquals(PipelineShards.shardFor(customerId, 8),
+                     shards.shardOf(event(UUID.randomUUID(), customerId)).getAsInt());
+        assertEquals(PipelineShards.shardFor(customerId, 8),
+                     shards.shardOf(event(UUID.randomUUID(), customerId)).getAsInt());
+    }
+
+    @Test
+    void testKeysSpreadAcrossAllShards() {
+        int[] counts = new int[4];
+        for (int i = 0; i < 4000; i++) {
+            counts[PipelineShards.shardFor(UUID.randomUUID(), 4)]++;
+        }
+
+        for (int count : counts) {
+            assertTrue(count > 800, "shard received " + count + " of 4000 keys");
+        }
+    }
+
+    @Test
+    void testOwnsAllShardsByDefault() {
+        PipelineShards shards = new PipelineShards(properties(3));
+
+        assertEquals(List.of(0, 1, 2), shards.ownedShards());
+    }
+
+    @Test
+    void testOwnsOnlyPinnedShards() {
+        PipelineShardingProperties properties = properties(4);
+        properties.setOwnedShards(List.of(3, 1, 3));
+
+        assertEquals(List.of(1, 3), new PipelineShards(properties).ownedShards());
+    }
+
+    @Test
+    void testRejectsOwnedShardOutsideRange() {
+        PipelineShardingProperties properties = properties(4);
+        properties.setOwnedShards(List.of(4));
+
+        assertThrows(IllegalArgumentException.class, () -> new PipelineShards(properties));
+    }
+
+    @Test
+    void testRejectsNonPositiveShardCount() {
+        assertThrows(IllegalArgumentException.class, () -> new PipelineShards(properties(0)));
+    }
+
+    @Test
+    void testShardNames() {
+        assertEquals("policy.created.shards", PipelineShards.shardExchange(RabbitMQConfig.POLICY_CREATED_KEY));
+        assertEquals("policy.created.queue.shard-2", PipelineShards.shardQueue(RabbitMQConfig.POLICY_CREATED_QUEUE, 2));
+    }
+
+    private PipelineShardingProperties properties(int shardCount) {
+        PipelineShardingProperties properties = new PipelineShardingProperties();
+        properties.setEnabled(true);
+        properties.setShardCount(shardCount);
+        return properties;
+    }
+
+    private PolicyRequestEvent event(UUID policyRequestId, UUID customerId) {
+        PolicyRequest request = new PolicyRequest();
+        request.setId(policyRequestId);
+        request.setCustomerId(customerId);
+        return new PolicyRequestCreatedEvent(request);
+    }
+}
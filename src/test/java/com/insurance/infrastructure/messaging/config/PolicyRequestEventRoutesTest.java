@@ -0,0 +1,57 @@
+package com.insurance.infrastructure.messaging.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import com.insurance.domain.PolicyRequest;
+import com.insurance.domain.enums.PolicyRequestStatus;
+import com.insurance.event.PaymentProcessedEvent;
+import com.insurance.event.PolicyCancelledEvent;
+import com.insurance.event.PolicyRejectedEvent;
+import com.insurance.event.PolicyRequestEvent;
+import com.insurance.event.PolicyStatusChangedEvent;
+import com.insurance.event.PolicyValidatedEvent;
+import com.insurance.event.SubscriptionApprovedEvent;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class PolicyRequestEventRoutesTest {
+
+    @Test
+    void shouldRouteEachStatusToItsEvent() {
+        assertRoute(PolicyRequestStatus.VALIDATED, RabbitMQConfig.POLICY_VALIDATED_KEY, PolicyValidatedEvent.class);
+        assertRoute(PolicyRequestStatus.REJECTED, RabbitMQConfig.POLICY_REJECTED_KEY, PolicyRejectedEvent.class);
+        assertRoute(PolicyRequestStatus.APPROVED, RabbitMQConfig.POLICY_APPROVED_KEY, SubscriptionApprovedEvent.class);
+        assertRoute(PolicyRequestStatus.CANCELLED, RabbitMQConfig.POLICY_CANCELLED_KEY, PolicyCancelledEvent.class);
+        assertRoute(PolicyRequestStatus.PENDING, RabbitMQConfig.PAYMENT_PROCESSED_KEY, PaymentProcessedEvent.class);
+        assertRoute(PolicyRequestStatus.RECEIVED, RabbitMQConfig.POLICY_STATUS_CHANGED_KEY, PolicyStatusChangedEvent.class);
+    }
+
+    @Test
+    void shouldCoverEveryStatus() {
+        for (PolicyRequestStatus status : PolicyRequestStatus.values()) {
+            assertNotNull(PolicyRequestEventRoutes.routingKey(status));
+            assertNotNull(PolicyRequestEventRoutes.eventFor(request(status)));
+        }
+    }
+
+    private void assertRoute(PolicyRequestStatus status, String routingKey, Class<? extends PolicyRequestEvent> eventType) {
+        PolicyRequest request = request(status);
+
+        PolicyRequestEvent event = PolicyRequestEventRoutes.eventFor(request);
+
+        assertEquals(routingKey, PolicyRequestEventRoutes.routingKey(status));
+        assertInstanceOf(eventType, event);
+        assertEquals(request.getId(), event.getPolicyRequestId());
+        assertEquals(status, event.getStatus());
+    }
+
+    private PolicyRequest request(PolicyRequestStatus status) {
+        PolicyRequest request = new PolicyRequest();
+        request.setId(UUID.randomUUID());
+        request.setCustomerId(UUID.randomUUID());
+        request.setStatus(status);
+        return request;
+    }
+}
@@ -5,7 +5,12 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.insurance.infrastructure.client.config.FraudProviderProperties;
+import java.util.List;
 import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
@@ -49,4 +54,78 @@ class RabbitMQConfigTest {
         assertEquals("policy.rejected", RabbitMQConfig.POLICY_REJECTED_KEY);
         assertEquals("policy.approved", RabbitMQConfig.POLICY_APPROVED_KEY);
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testPipelineQueuesAreDurable() {
+        Queue created = config.policyCreatedQueue();
+        Queue validated = config.policyValidatedQueue();
+        Queue paymentProcessed = config.paymentProcessedQueue();
+
+        assertEquals(RabbitMQConfig.POLICY_CREATED_QUEUE, created.getName());
+        assertEquals(RabbitMQConfig.POLICY_VALIDATED_QUEUE, validated.getName());
+        assertEquals(RabbitMQConfig.PAYMENT_PROCESSED_QUEUE, paymentProcessed.getName());
+        assertTrue(created.isDurable());
+        assertTrue(validated.isDurable());
+        assertTrue(paymentProcessed.isDurable());
+    }
+
+    @Test
+    void testPipelineQueuesDeadLetterToTheirDlq() {
+        Queue validated = config.policyValidatedQueue();
+
+        assertEquals(RabbitMQConfig.PIPELINE_DEAD_LETTER_EXCHANGE, validated.getArguments().get("x-dead-letter-exchange"));
+        assertEquals(RabbitMQConfig.POLICY_VALIDATED_QUEUE, validated.getArguments().get("x-dead-letter-routing-key"));
+    }
+
+    @Test
+    void testDeadLetterQueuePerPipelineStage() {
+        Declarables declarables = config.pipelineDeadLetterDeclarables();
+
+        List<Queue> queues = declarables.getDeclarablesByType(Queue.class);
+        assertEquals(List.of("policy.created.queue.dlq", "policy.validated.queue.dlq", "payment.processed.queue.dlq"),
+            queues.stream().map(Queue::getName).toList());
+        queues.forEach(queue -> assertTrue(queue.isDurable()));
+
+        List<Binding> bindings = declarables.getDeclarablesByType(Binding.class);
+        assertEquals(3, bindings.size());
+        assertEquals(RabbitMQConfig.PIPELINE_DEAD_LETTER_EXCHANGE, bindings.get(0).getExchange());
+        assertEquals("policy.created.queue.dlq", bindings.get(0).getDestination());
+        assertEquals(RabbitMQConfig.POLICY_CREATED_QUEUE, bindings.get(0).getRoutingKey());
+    }
+
+    @Test
+    void testPipelineBindings() {
+        Binding created = config.policyCreatedBinding();
+        Binding validated = config.policyValidatedBinding();
+        Binding paymentProcessed = config.paymentProcessedBinding();
+
+        assertEquals(RabbitMQConfig.POLICY_EVENTS_EXCHANGE, created.getExchange());
+        assertEquals(RabbitMQConfig.POLICY_CREATED_QUEUE, created.getDestination());
+        assertEquals(RabbitMQConfig.POLICY_CREATED_KEY, created.getRoutingKey());
+        assertEquals(RabbitMQConfig.POLICY_VALIDATED_KEY, validated.getRoutingKey());
+        assertEquals(RabbitMQConfig.PAYMENT_PROCESSED_KEY, paymentProcessed.getRoutingKey());
+    }
+
+    @Test
+    void testFraudAnalysisRetryQueueDeadLettersBackToPipeline() {
+        FraudProviderProperties properties = new FraudProviderProperties();
+        properties.getRetry().setDelayMs(45000);
+        Queue retry = config.fraudAnalysisRetryQueue(properties);
+
+        assertEquals(RabbitMQConfig.FRAUD_ANALYSIS_RETRY_QUEUE, retry.getName());
+        assertTrue(retry.isDurable());
+        assertEquals(45000, retry.getArguments().get("x-message-ttl"));
+        assertEquals(RabbitMQConfig.POLICY_EVENTS_EXCHANGE, retry.getArguments().get("x-dead-letter-exchange"));
+        assertEquals(RabbitMQConfig.POLICY_CREATED_KEY, retry.getArguments().get("x-dead-letter-routing-key"));
+    }
+
+    @Test
+    void testFraudAnalysisRetryBinding() {
+        Binding binding = config.fraudAnalysisRetryBinding(
+            config.fraudAnalysisRetryQueue(new FraudProviderProperties()), config.policyRetryExchange());
+
+        assertEquals(RabbitMQConfig.POLICY_RETRY_EXCHANGE, binding.getExchange());
+        assertEquals(RabbitMQConfig.FRAUD_ANALYSIS_RETRY_QUEUE, binding.getDestination());
+        assertEquals(RabbitMQConfig.FRAUD_ANALYSIS_RETRY_KEY, binding.getRoutingKey());
+    }
+}
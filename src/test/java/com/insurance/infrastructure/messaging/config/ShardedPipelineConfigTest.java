@@ -0,0 +1,75 @@
+package com.insurance.infrastructure.messaging.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.Declarables;
+import org.springframework.amqp.core.HeadersExchange;
+import org.springframework.amqp.core.Queue;
+
+class ShardedPipelineConfigTest {
+
+    private final ShardedPipelineConfig config = new ShardedPipelineConfig();
+
+    @Test
+    void testDeclaresSingleActiveConsumerQueuePerShardAndStage() {
+        PipelineShardingProperties properties = new PipelineShardingProperties();
+        properties.setEnabled(true);
+        properties.setShardCount(4);
+
+        Declarables declarables = config.pipelineShardDeclarables(
+            new RabbitMQConfig().policyEventsExchange(), new PipelineShards(properties));
+
+        List<Queue> queues = declarables.getDeclarablesByType(Queue.class);
+        assertEquals(12, queues.size());
+        assertEquals(3, declarables.getDeclarablesByType(HeadersExchange.class).size());
+        queues.forEach(queue -> {
+            assertTrue(queue.isDurable());
+            assertEquals(true, queue.getArguments().get("x-single-active-consumer"));
+        });
+    }
+
+    @Test
+    void testShardQueuesAreBoundOnShardHeader() {
+        List<Binding> bindings = ShardedPipelineConfig.stageDeclarables(
+                new RabbitMQConfig().policyEventsExchange(),
+                RabbitMQConfig.POLICY_VALIDATED_KEY,
+                RabbitMQConfig.POLICY_VALIDATED_QUEUE,
+                2).stream()
+            .filter(Binding.class::isInstance)
+            .map(Binding.class::cast)
+            .toList();
+
+        assertEquals(3, bindings.size());
+        Binding forward = bindings.get(0);
+        assertEquals(Binding.DestinationType.EXCHANGE, forward.getDestinationType());
+        assertEquals(RabbitMQConfig.POLICY_EVENTS_EXCHANGE, forward.getExchange());
+        assertEquals("policy.validated.shards", forward.getDestination());
+        assertEquals(RabbitMQConfig.POLICY_VALIDATED_KEY, forward.getRoutingKey());
+
+        Binding shardOne = bindings.get(2);
+        assertEquals("policy.validated.queue.shard-1", shardOne.getDestination());
+        assertEquals("policy.validated.shards", shardOne.getExchange());
+        assertEquals("1", shardOne.getArguments().get(PipelineShards.SHARD_HEADER));
+    }
+
+    @Test
+    void testShardQueuesDeadLetterToStageQueue() {
+        List<Queue> queues = ShardedPipelineConfig.stageDeclarables(
+                new RabbitMQConfig().policyEventsExchange(),
+                RabbitMQConfig.POLICY_CREATED_KEY,
+                RabbitMQConfig.POLICY_CREATED_QUEUE,
+                2).stream()
+            .filter(Queue.class::isInstance)
+            .map(Queue.class::cast)
+            .toList();
+
+        queues.forEach(queue -> {
+            assertEquals(RabbitMQConfig.PIPELINE_DEAD_LETTER_EXCHANGE, queue.getArguments().get("x-dead-letter-exchange"));
+            assertEquals(RabbitMQConfig.POLICY_CREATED_QUEUE, queue.getArguments().get("x-dead-letter-routing-key"));
+        });
+    }
+}
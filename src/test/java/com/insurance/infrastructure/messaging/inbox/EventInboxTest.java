@@ -0,0 +1,177 @@
+package com.insurance.infrastructure.messaging.inbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.insurance.domain.InboxEvent;
+import com.insurance.infrastructure.persistence.id.TimeOrderedUuidGenerator;
+import com.insurance.repository.InboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class EventInboxTest {
+
+    private static final String CONSUMER = "payment";
+
+    @Mock
+    private InboxEventRepository repository;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2024-03-01T10:00:00Z"), ZoneOffset.UTC);
+    private SimpleMeterRegistry meterRegistry;
+    private EventInbox inbox;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        inbox = new EventInbox(repository, meterRegistry, 1_000, 0.01, Duration.ofDays(7), clock);
+    }
+
+    @Test
+    void testUnseenEventIsAnsweredWithoutDatabase() {
+        assertFalse(inbox.isProcessed(CONSUMER, TimeOrderedUuidGenerator.instance().next()));
+
+        verify(repository, never()).existsById(any());
+        assertEquals(1.0, lookups("filtered"));
+    }
+
+    @Test
+    void testRecordedEventIsConfirmedByPrimaryKey() {
+        UUID eventId = TimeOrderedUuidGenerator.instance().next();
+        inbox.markProcessed(CONSUMER, eventId, "PolicyValidatedEvent");
+        when(repository.existsById(EventInbox.inboxKey(CONSUMER, eventId))).thenReturn(true);
+
+        assertTrue(inbox.isProcessed(CONSUMER, eventId));
+        assertEquals(1.0, lookups("duplicate"));
+    }
+
+    @Test
+    void testMarkProcessedStoresRow() {
+        UUID eventId = TimeOrderedUuidGenerator.instance().next();
+
+        inbox.markProcessed(CONSUMER, eventId, "PolicyValidatedEvent");
+
+        ArgumentCaptor<InboxEvent> saved = ArgumentCaptor.forClass(InboxEvent.class);
+        verify(repository).saveAndFlush(saved.capture());
+        assertEquals(EventInbox.inboxKey(CONSUMER, eventId), saved.getValue().getId());
+        assertEquals(eventId, saved.getValue().getEventId());
+        assertEquals(CONSUMER, saved.getValue().getConsumer());
+        assertEquals(LocalDateTime.now(clock), saved.getValue().getProcessedAt());
+    }
+
+    @Test
+    void testConcurrentRecordingIsTolerated() {
+        UUID eventId = TimeOrderedUuidGenerator.instance().next();
+        when(repository.saveAndFlush(any(InboxEvent.class)))
+            .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        inbox.markProcessed(CONSUMER, eventId, "PolicyValidatedEvent");
+        when(repository.existsById(EventInbox.inboxKey(CONSUMER, eventId))).thenReturn(true);
+
+        assertTrue(inbox.isProcessed(CONSUMER, eventId));
+    }
+
+    @Test
+    void testRecordProcessedRejectsExistingRow() {
+        UUID eventId = TimeOrderedUuidGenerator.instance().next();
+        when(repository.saveAndFlush(any(InboxEvent.class)))
+            .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        assertThrows(DuplicateEventException.class,
+            () -> inbox.recordProcessed(CONSUMER, eventId, "PolicyValidatedEvent"));
+    }
+
+    @Test
+    void testRecordedIdReachesFilterOnlyAfterCommit() {
+        UUID eventId = TimeOrderedUuidGenerator.instance().next();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            inbox.recordProcessed(CONSUMER, eventId, "PolicyValidatedEvent");
+
+            assertFalse(inbox.isProcessed(CONSUMER, eventId));
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        when(repository.existsById(EventInbox.inboxKey(CONSUMER, eventId))).thenReturn(true);
+
+        assertTrue(inbox.isProcessed(CONSUMER, eventId));
+    }
+
+    @Test
+    void testInboxKeyIsPerConsumerAndKeepsTimeOrderedBits() {
+        UUID eventId = TimeOrderedUuidGenerator.instance().next();
+
+        UUID payment = EventInbox.inboxKey("payment", eventId);
+        UUID subscription = EventInbox.inboxKey("subscription", eventId);
+
+        assertNotEquals(payment, subscription);
+        assertEquals(eventId.getMostSignificantBits(), payment.getMostSignificantBits());
+        assertEquals(payment, EventInbox.inboxKey("payment", eventId));
+    }
+
+    @Test
+    void testRebuildLoadsExistingIdsPageByPage() {
+        UUID eventId = TimeOrderedUuidGenerator.instance().next();
+        UUID key = EventInbox.inboxKey(CONSUMER, eventId);
+        when(repository.findIdsAfter(any(UUID.class), any(Pageable.class))).thenReturn(List.of(key));
+        when(repository.existsById(key)).thenReturn(true);
+
+        inbox.rebuild();
+
+        assertTrue(inbox.isProcessed(CONSUMER, eventId));
+    }
+
+    @Test
+    void testRefreshPicksUpIdsFromOtherInstances() {
+        UUID eventId = TimeOrderedUuidGenerator.instance().next();
+        UUID key = EventInbox.inboxKey(CONSUMER, eventId);
+        when(repository.findIdsProcessedSince(any(LocalDateTime.class))).thenReturn(List.of(key));
+        when(repository.existsById(key)).thenReturn(true);
+
+        inbox.refresh();
+
+        assertTrue(inbox.isProcessed(CONSUMER, eventId));
+    }
+
+    @Test
+    void testCompactionDeletesPastRetentionAndRebuilds() {
+        UUID eventId = TimeOrderedUuidGenerator.instance().next();
+        inbox.markProcessed(CONSUMER, eventId, "PolicyValidatedEvent");
+
+        inbox.compact();
+
+        verify(repository).deleteProcessedBefore(LocalDateTime.now(clock).minusDays(7));
+        // the row was compacted away, so the rebuilt filter no longer knows it
+        assertFalse(inbox.isProcessed(CONSUMER, eventId));
+        verify(repository, never()).existsById(any());
+    }
+
+    private double lookups(String result) {
+        return meterRegistry.get(EventInbox.LOOKUPS).tag("result", result).counter().count();
+    }
+}
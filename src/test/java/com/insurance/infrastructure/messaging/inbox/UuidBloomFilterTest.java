@@ -0,0 +1,65 @@
+package com.insurance.infrastructure.messaging.inbox;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.insurance.infrastructure.persistence.id.TimeOrderedUuidGenerator;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class UuidBloomFilterTest {
+
+    @Test
+    void testSizingFollowsFalsePositiveRate() {
+        UuidBloomFilter filter = new UuidBloomFilter(1_000_000, 0.01);
+
+        // ~9.6 bits per element and 7 hash functions for 1%
+        assertEquals(7, filter.hashCount());
+        assertTrue(filter.bitCount() >= 9_585_059L);
+    }
+
+    @Test
+    void testInsertedIdsAreAlwaysFound() {
+        UuidBloomFilter filter = new UuidBloomFilter(10_000, 0.01);
+        List<UUID> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            UUID id = TimeOrderedUuidGenerator.instance().next();
+            ids.add(id);
+            filter.put(id);
+        }
+
+        assertTrue(ids.stream().allMatch(filter::mightContain));
+    }
+
+    @Test
+    void testFalsePositiveRateStaysNearTarget() {
+        UuidBloomFilter filter = new UuidBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(TimeOrderedUuidGenerator.instance().next());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain(TimeOrderedUuidGenerator.instance().next())) {
+                falsePositives++;
+            }
+        }
+
+        assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void testEmptyFilterContainsNothing() {
+        assertFalse(new UuidBloomFilter(100, 0.01).mightContain(UUID.randomUUID()));
+    }
+
+    @Test
+    void testRejectsInvalidSizing() {
+        assertThrows(IllegalArgumentException.class, () -> new UuidBloomFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new UuidBloomFilter(100, 1.0));
+    }
+}
@@ -0,0 +1,127 @@
+package com.insurance.infrastructure.messaging.listener;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.insurance.domain.PolicyRequest;
+import com.insurance.infrastructure.messaging.config.PipelineConsumerProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+class PipelineStepExecutorTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private SimpleMeterRegistry meterRegistry;
+    private PipelineStepExecutor executor;
+    private UUID policyRequestId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        PipelineConsumerProperties properties = new PipelineConsumerProperties();
+        properties.getConflictRetry().setMaxAttempts(3);
+        properties.getConflictRetry().setBackoffMs(0);
+        executor = new PipelineStepExecutor(properties, meterRegistry, transactionManager);
+        policyRequestId = UUID.randomUUID();
+    }
+
+    @Test
+    void testSuccessfulStepRunsOnceWithoutMetrics() {
+        AtomicInteger calls = new AtomicInteger();
+
+        executor.run("payment", policyRequestId, id -> calls.incrementAndGet());
+
+        assertEquals(1, calls.get());
+        assertNull(meterRegistry.find(PipelineStepExecutor.CONFLICTS).counter());
+    }
+
+    @Test
+    void testEachAttemptRunsInItsOwnTransaction() {
+        AtomicInteger calls = new AtomicInteger();
+
+        executor.run("payment", policyRequestId, id -> {
+            if (calls.incrementAndGet() == 1) {
+                throw conflict();
+            }
+        });
+
+        verify(transactionManager, times(2)).getTransaction(any());
+        verify(transactionManager).rollback(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void testConflictIsRetriedAndCounted() {
+        AtomicInteger calls = new AtomicInteger();
+
+        executor.run("payment", policyRequestId, id -> {
+            if (calls.incrementAndGet() == 1) {
+                throw conflict();
+            }
+        });
+
+        assertEquals(2, calls.get());
+        assertEquals(1.0, count(PipelineStepExecutor.CONFLICTS, "payment"));
+        assertEquals(1.0, count(PipelineStepExecutor.RETRIES, "payment"));
+        assertNull(meterRegistry.find(PipelineStepExecutor.EXHAUSTED).counter());
+    }
+
+    @Test
+    void testConflictIsRethrownWhenAttemptsRunOut() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () ->
+            executor.run("subscription", policyRequestId, id -> {
+                calls.incrementAndGet();
+                throw conflict();
+            })
+        );
+
+        assertEquals(3, calls.get());
+        assertEquals(3.0, count(PipelineStepExecutor.CONFLICTS, "subscription"));
+        assertEquals(2.0, count(PipelineStepExecutor.RETRIES, "subscription"));
+        assertEquals(1.0, count(PipelineStepExecutor.EXHAUSTED, "subscription"));
+    }
+
+    @Test
+    void testOtherFailuresAreNotRetried() {
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () ->
+            executor.run("payment", policyRequestId, id -> {
+                calls.incrementAndGet();
+                throw new IllegalStateException("Cannot process payment for non-validated policy request");
+            })
+        );
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void testRejectsNonPositiveMaxAttempts() {
+        PipelineConsumerProperties properties = new PipelineConsumerProperties();
+        properties.getConflictRetry().setMaxAttempts(0);
+
+        assertThrows(IllegalArgumentException.class, () -> new PipelineStepExecutor(properties, meterRegistry, transactionManager));
+    }
+
+    private ObjectOptimisticLockingFailureException conflict() {
+        return new ObjectOptimisticLockingFailureException(PolicyRequest.class, policyRequestId);
+    }
+
+    private double count(String name, String stage) {
+        Counter counter = meterRegistry.get(name).tag("stage", stage).counter();
+        return counter.count();
+    }
+}
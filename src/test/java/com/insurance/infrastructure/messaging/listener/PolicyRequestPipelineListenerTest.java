@@ -0,0 +1,202 @@
+package com.insurance.infrastructure.messaging.listener;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.insurance.domain.PolicyRequest;
+import com.insurance.domain.enums.PolicyRequestStatus;
+import com.insurance.infrastructure.messaging.config.PipelineConsumerProperties;
+import com.insurance.infrastructure.messaging.dto.PolicyRequestEventMessage;
+import com.insurance.infrastructure.messaging.inbox.DuplicateEventException;
+import com.insurance.infrastructure.messaging.inbox.EventInbox;
+import com.insurance.service.PolicyRequestService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityNotFoundException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class PolicyRequestPipelineListenerTest {
+
+    @Mock
+    private PolicyRequestService service;
+
+    @Spy
+    private PipelineStepExecutor stepExecutor =
+        new PipelineStepExecutor(new PipelineConsumerProperties(), new SimpleMeterRegistry(),
+            mock(PlatformTransactionManager.class));
+
+    @Mock
+    private EventInbox inbox;
+
+    @InjectMocks
+    private PolicyRequestPipelineListener listener;
+
+    @Test
+    void testOnPolicyCreatedRunsFraudAnalysisForEachEvent() {
+        PolicyRequestEventMessage first = event(PolicyRequestStatus.RECEIVED);
+        PolicyRequestEventMessage second = event(PolicyRequestStatus.RECEIVED);
+
+        listener.onPolicyCreated(List.of(first, second));
+
+        verify(service).processFraudAnalysis(first.policyRequestId());
+        verify(service).processFraudAnalysis(second.policyRequestId());
+    }
+
+    @Test
+    void testOnPolicyValidatedRunsPayment() {
+        PolicyRequestEventMessage event = event(PolicyRequestStatus.VALIDATED);
+
+        listener.onPolicyValidated(List.of(event));
+
+        verify(service).processPayment(event.policyRequestId());
+    }
+
+    @Test
+    void testOnPaymentProcessedRunsSubscription() {
+        PolicyRequestEventMessage event = event(PolicyRequestStatus.PENDING);
+
+        listener.onPaymentProcessed(List.of(event));
+
+        verify(service).processSubscription(event.policyRequestId());
+    }
+
+    @Test
+    void testStaleEventDoesNotStopBatch() {
+        PolicyRequestEventMessage stale = event(PolicyRequestStatus.VALIDATED);
+        PolicyRequestEventMessage missing = event(PolicyRequestStatus.VALIDATED);
+        PolicyRequestEventMessage valid = event(PolicyRequestStatus.VALIDATED);
+        doThrow(new IllegalStateException("Cannot process payment for non-validated policy request"))
+            .when(service).processPayment(stale.policyRequestId());
+        doThrow(new EntityNotFoundException("not found"))
+            .when(service).processPayment(missing.policyRequestId());
+
+        listener.onPolicyValidated(List.of(stale, missing, valid));
+
+        verify(service).processPayment(valid.policyRequestId());
+    }
+
+    @Test
+    void testTransientFailureIsRethrownForRedelivery() {
+        PolicyRequestEventMessage event = event(PolicyRequestStatus.RECEIVED);
+        doThrow(new DataAccessResourceFailureException("database unavailable"))
+            .when(service).processFraudAnalysis(event.policyRequestId());
+
+        assertThrows(DataAccessResourceFailureException.class, () -> listener.onPolicyCreated(List.of(event)));
+        verify(inbox, never()).markProcessed(any(), any(), any());
+    }
+
+    @Test
+    void testHandledEventIsRecordedInInbox() {
+        PolicyRequestEventMessage event = event(PolicyRequestStatus.VALIDATED);
+
+        listener.onPolicyValidated(List.of(event));
+
+        verify(inbox).recordProcessed("payment", event.eventId(), event.eventType());
+        verify(inbox, never()).markProcessed(any(), any(), any());
+    }
+
+    @Test
+    void testDuplicateFoundByInboxInsertSkipsStep() {
+        PolicyRequestEventMessage event = event(PolicyRequestStatus.VALIDATED);
+        doThrow(new DuplicateEventException("already handled", null))
+            .when(inbox).recordProcessed("payment", event.eventId(), event.eventType());
+
+        listener.onPolicyValidated(List.of(event));
+
+        verify(service, never()).processPayment(any(UUID.class));
+        verify(inbox, never()).markProcessed(any(), any(), any());
+    }
+
+    @Test
+    void testStaleEventIsRecordedInInbox() {
+        PolicyRequestEventMessage event = event(PolicyRequestStatus.VALIDATED);
+        doThrow(new IllegalStateException("Cannot process payment for non-validated policy request"))
+            .when(service).processPayment(event.policyRequestId());
+
+        listener.onPolicyValidated(List.of(event));
+
+        verify(inbox).markProcessed("payment", event.eventId(), event.eventType());
+    }
+
+    @Test
+    void testRedeliveredEventIsSkipped() {
+        PolicyRequestEventMessage event = event(PolicyRequestStatus.VALIDATED);
+        when(inbox.isProcessed("payment", event.eventId())).thenReturn(true);
+
+        listener.onPolicyValidated(List.of(event));
+
+        verify(service, never()).processPayment(any(UUID.class));
+        verify(inbox, never()).recordProcessed(any(), any(), any());
+        verify(inbox, never()).markProcessed(any(), any(), any());
+    }
+
+    @Test
+    void testEventWithoutIdBypassesInbox() {
+        PolicyRequestEventMessage legacy = new PolicyRequestEventMessage(
+            null,
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            PolicyRequestStatus.VALIDATED,
+            LocalDateTime.now(),
+            "PolicyValidatedEvent"
+        );
+
+        listener.onPolicyValidated(List.of(legacy));
+
+        verify(service).processPayment(legacy.policyRequestId());
+        verifyNoInteractions(inbox);
+    }
+
+    @Test
+    void testConflictingStepIsRetriedWithReload() {
+        PolicyRequestEventMessage event = event(PolicyRequestStatus.PENDING);
+        doThrow(new ObjectOptimisticLockingFailureException(PolicyRequest.class, event.policyRequestId()))
+            .doNothing()
+            .when(service).processSubscription(event.policyRequestId());
+
+        listener.onPaymentProcessed(List.of(event));
+
+        verify(service, times(2)).processSubscription(event.policyRequestId());
+    }
+
+    @Test
+    void testStepThatLostTheRaceIsSkippedAfterReload() {
+        PolicyRequestEventMessage event = event(PolicyRequestStatus.PENDING);
+        doThrow(new ObjectOptimisticLockingFailureException(PolicyRequest.class, event.policyRequestId()))
+            .doThrow(new IllegalStateException("Cannot process subscription for policy request in status: CANCELLED"))
+            .when(service).processSubscription(event.policyRequestId());
+
+        listener.onPaymentProcessed(List.of(event));
+
+        verify(service, times(2)).processSubscription(event.policyRequestId());
+    }
+
+    private PolicyRequestEventMessage event(PolicyRequestStatus status) {
+        return new PolicyRequestEventMessage(
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            status,
+            LocalDateTime.now(),
+            "PolicyRequestCreatedEvent"
+        );
+    }
+}
@@ -0,0 +1,109 @@
+package com.insurance.infrastructure.messaging.listener;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurance.domain.enums.PolicyRequestStatus;
+import com.insurance.infrastructure.messaging.config.PipelineShardingProperties;
+import com.insurance.infrastructure.messaging.config.PipelineShards;
+import com.insurance.infrastructure.messaging.dto.PolicyRequestEventMessage;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerEndpoint;
+import org.springframework.amqp.rabbit.listener.RabbitListenerEndpointRegistrar;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.beans.factory.ObjectProvider;
+
+@ExtendWith(MockitoExtension.class)
+class ShardedPipelineListenerRegistrarTest {
+
+    @Mock
+    private ObjectProvider<PolicyRequestPipelineListener> pipelineListenerProvider;
+
+    @Mock
+    private PolicyRequestPipelineListener pipelineListener;
+
+    @Mock
+    private RabbitListenerEndpointRegistrar endpointRegistrar;
+
+    @Mock
+    private SimpleRabbitListenerContainerFactory fraudAnalysisFactory;
+
+    @Mock
+    private SimpleRabbitListenerContainerFactory paymentFactory;
+
+    @Mock
+    private SimpleRabbitListenerContainerFactory subscriptionFactory;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private ShardedPipelineListenerRegistrar registrar;
+
+    @BeforeEach
+    void setUp() {
+        PipelineShardingProperties properties = new PipelineShardingProperties();
+        properties.setEnabled(true);
+        properties.setShardCount(4);
+        properties.setOwnedShards(List.of(0, 2));
+        registrar = new ShardedPipelineListenerRegistrar(pipelineListenerProvider, new PipelineShards(properties),
+            objectMapper, fraudAnalysisFactory, paymentFactory, subscriptionFactory);
+    }
+
+    @Test
+    void testRegistersSingleConsumerPerOwnedShardAndStage() {
+        when(pipelineListenerProvider.getIfAvailable()).thenReturn(pipelineListener);
+        ArgumentCaptor<SimpleRabbitListenerEndpoint> captor = ArgumentCaptor.forClass(SimpleRabbitListenerEndpoint.class);
+
+        registrar.configureRabbitListeners(endpointRegistrar);
+
+        verify(endpointRegistrar, times(2)).registerEndpoint(captor.capture(), eq(fraudAnalysisFactory));
+        verify(endpointRegistrar, times(2)).registerEndpoint(any(), eq(paymentFactory));
+        verify(endpointRegistrar, times(2)).registerEndpoint(any(), eq(subscriptionFactory));
+        List<SimpleRabbitListenerEndpoint> endpoints = captor.getAllValues();
+        assertEquals(List.of("policy.created.queue.shard-0"), endpoints.get(0).getQueueNames());
+        assertEquals(List.of("policy.created.queue.shard-2"), endpoints.get(1).getQueueNames());
+        endpoints.forEach(endpoint -> assertEquals("1", endpoint.getConcurrency()));
+    }
+
+    @Test
+    void testRegistersNothingWhenConsumersAreDisabled() {
+        when(pipelineListenerProvider.getIfAvailable()).thenReturn(null);
+
+        registrar.configureRabbitListeners(endpointRegistrar);
+
+        verifyNoInteractions(endpointRegistrar);
+    }
+
+    @Test
+    void testConvertsMessagesToPipelineEvents() throws Exception {
+        PolicyRequestEventMessage event = new PolicyRequestEventMessage(UUID.randomUUID(), UUID.randomUUID(),
+            UUID.randomUUID(), PolicyRequestStatus.VALIDATED, null, "PolicyValidatedEvent");
+        Message message = new Message(objectMapper.writeValueAsBytes(event), new MessageProperties());
+
+        assertEquals(List.of(event), registrar.toEvents(List.of(message)));
+    }
+
+    @Test
+    void testUnreadableMessageIsAConversionFailure() {
+        Message message = new Message("not json".getBytes(StandardCharsets.UTF_8), new MessageProperties());
+
+        assertThrows(MessageConversionException.class, () -> registrar.toEvents(List.of(message)));
+    }
+}
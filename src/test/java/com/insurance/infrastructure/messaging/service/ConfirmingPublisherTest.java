@@ -0,0 +1,110 @@
+package com.insurance.infrastructure.messaging.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.insurance.infrastructure.messaging.config.RabbitMQConfig;
+import com.insurance.infrastructure.messaging.service.ConfirmingPublisher.OutboundMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class ConfirmingPublisherTest {
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private ConfirmingPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        publisher = new ConfirmingPublisher(rabbitTemplate, meterRegistry, 10);
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation -> {
+            RabbitOperations.OperationsCallback<?> callback = invocation.getArgument(0);
+            return callback.doInRabbit(rabbitTemplate);
+        });
+    }
+
+    @Test
+    void testSendBatchCompletesOnAck() {
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.getFuture().complete(new CorrelationData.Confirm(true, null));
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+        List<CompletableFuture<Boolean>> confirms = publisher.sendBatch(List.of(outbound("1"), outbound("2")));
+
+        assertEquals(2, confirms.size());
+        assertTrue(confirms.get(0).join());
+        assertTrue(confirms.get(1).join());
+        assertEquals(2.0, meterRegistry.get("messaging.publisher.confirms").tag("result", "ack").counter().count());
+        assertEquals(2, meterRegistry.get("messaging.publisher.confirm.latency").timer().count());
+        assertEquals(0.0, meterRegistry.get("messaging.publisher.in.flight").gauge().value());
+        verify(rabbitTemplate).invoke(any());
+    }
+
+    @Test
+    void testSendBatchReportsNack() {
+        doAnswer(invocation -> {
+            CorrelationData correlation = invocation.getArgument(3);
+            correlation.getFuture().complete(new CorrelationData.Confirm(false, "rejected"));
+            return null;
+        }).when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+        List<CompletableFuture<Boolean>> confirms = publisher.sendBatch(List.of(outbound("1")));
+
+        assertFalse(confirms.get(0).join());
+        assertEquals(1.0, meterRegistry.get("messaging.publisher.confirms").tag("result", "nack").counter().count());
+    }
+
+    @Test
+    void testSendFailureReleasesPermit() {
+        doThrow(new AmqpException("channel closed"))
+            .when(rabbitTemplate).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+
+        List<CompletableFuture<Boolean>> confirms = publisher.sendBatch(List.of(outbound("1")));
+
+        assertFalse(confirms.get(0).join());
+        assertEquals(0.0, meterRegistry.get("messaging.publisher.in.flight").gauge().value());
+    }
+
+    @Test
+    void testUnconfirmedMessagesStayInFlight() {
+        List<CompletableFuture<Boolean>> confirms = publisher.sendBatch(List.of(outbound("1")));
+
+        assertFalse(confirms.get(0).isDone());
+        assertEquals(1.0, meterRegistry.get("messaging.publisher.in.flight").gauge().value());
+    }
+
+    private OutboundMessage outbound(String id) {
+        MessageProperties properties = new MessageProperties();
+        properties.setMessageId(id);
+        return new OutboundMessage(
+            RabbitMQConfig.POLICY_EVENTS_EXCHANGE,
+            RabbitMQConfig.POLICY_CREATED_KEY,
+            new Message("{}".getBytes(), properties)
+        );
+    }
+}
@@ -1,19 +1,39 @@
 package com.insurance.infrastructure.messaging.service;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurance.domain.OutboxEvent;
 import com.insurance.domain.enums.PolicyRequestStatus;
 import com.insurance.event.PolicyRequestEvent;
+import com.insurance.infrastructure.messaging.config.PipelineShards;
 import com.insurance.infrastructure.messaging.config.RabbitMQConfig;
+import com.insurance.repository.OutboxEventRepository;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalInt;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class EventPublisherTest {
@@ -21,6 +41,15 @@ class EventPublisherTest {
     @Mock
     private RabbitTemplate rabbitTemplate;
 
+    @Mock
+    private OutboxEventRepository outboxRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Mock
+    private PipelineShards shards;
+
     @InjectMocks
     private EventPublisher eventPublisher;
 
@@ -101,4 +130,83 @@ class EventPublisherTest {
             eq(validatedEvent)
         );
     }
-} 
\ No newline at end of file
+
+    @Test
+    void testPublishAllUsesSingleChannelInvocation() {
+        PolicyRequestEvent otherEvent = new TestPolicyRequestEvent(
+            UUID.randomUUID(),
+            UUID.randomUUID(),
+            PolicyRequestStatus.RECEIVED
+        );
+        when(rabbitTemplate.invoke(any())).thenAnswer(invocation -> {
+            RabbitOperations.OperationsCallback<?> callback = invocation.getArgument(0);
+            return callback.doInRabbit(rabbitTemplate);
+        });
+
+        eventPublisher.publishAll(testExchange, testRoutingKey, List.of(testEvent, otherEvent));
+
+        verify(rabbitTemplate).convertAndSend(eq(testExchange), eq(testRoutingKey), eq(testEvent));
+        verify(rabbitTemplate).convertAndSend(eq(testExchange), eq(testRoutingKey), eq(otherEvent));
+    }
+
+    @Test
+    void testPublishAllWithNoEvents() {
+        eventPublisher.publishAll(testExchange, testRoutingKey, Collections.emptyList());
+
+        verify(rabbitTemplate, never()).invoke(any());
+    }
+
+    @Test
+    void testPublishWritesToOutboxWhenEnabled() {
+        ReflectionTestUtils.setField(eventPublisher, "outboxEnabled", true);
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+
+        eventPublisher.publish(testExchange, testRoutingKey, testEvent);
+
+        verify(outboxRepository).save(captor.capture());
+        verify(rabbitTemplate, never()).convertAndSend(anyString(), anyString(), any(Object.class));
+        OutboxEvent stored = captor.getValue();
+        assertEquals(testExchange, stored.getExchange());
+        assertEquals(testRoutingKey, stored.getRoutingKey());
+        assertEquals(TestPolicyRequestEvent.class.getName(), stored.getEventType());
+        assertTrue(stored.getPayload().contains(testEvent.getPolicyRequestId().toString()));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testPublishAllWritesToOutboxWhenEnabled() {
+        ReflectionTestUtils.setField(eventPublisher, "outboxEnabled", true);
+        ArgumentCaptor<List<OutboxEvent>> captor = ArgumentCaptor.forClass(List.class);
+
+        eventPublisher.publishAll(testExchange, testRoutingKey, List.of(testEvent, testEvent));
+
+        verify(outboxRepository).saveAll(captor.capture());
+        verify(rabbitTemplate, never()).invoke(any());
+        assertEquals(2, captor.getValue().size());
+    }
+
+    @Test
+    void testPublishStampsShardHeaderWhenSharded() {
+        when(shards.shardOf(testEvent)).thenReturn(OptionalInt.of(3));
+        ArgumentCaptor<MessagePostProcessor> captor = ArgumentCaptor.forClass(MessagePostProcessor.class);
+
+        eventPublisher.publish(testExchange, testRoutingKey, testEvent);
+
+        verify(rabbitTemplate).convertAndSend(eq(testExchange), eq(testRoutingKey), eq(testEvent), captor.capture());
+        verify(rabbitTemplate, never()).convertAndSend(anyString(), anyString(), any(Object.class));
+        Message message = captor.getValue().postProcessMessage(new Message(new byte[0], new MessageProperties()));
+        assertEquals("3", message.getMessageProperties().getHeader(PipelineShards.SHARD_HEADER));
+    }
+
+    @Test
+    void testOutboxRowCarriesShardWhenSharded() {
+        ReflectionTestUtils.setField(eventPublisher, "outboxEnabled", true);
+        when(shards.shardOf(testEvent)).thenReturn(OptionalInt.of(5));
+        ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+
+        eventPublisher.publish(testExchange, testRoutingKey, testEvent);
+
+        verify(outboxRepository).save(captor.capture());
+        assertEquals(5, captor.getValue().getShard());
+    }
+}
@@ -0,0 +1,140 @@
+package com.insurance.infrastructure.messaging.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.insurance.domain.OutboxEvent;
+import com.insurance.infrastructure.messaging.config.PipelineShards;
+import com.insurance.infrastructure.messaging.config.RabbitMQConfig;
+import com.insurance.infrastructure.messaging.service.ConfirmingPublisher.OutboundMessage;
+import com.insurance.repository.OutboxEventRepository;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxEventRepository repository;
+
+    @Mock
+    private ConfirmingPublisher publisher;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private OutboxRelay relay;
+
+    private OutboxEvent first;
+    private OutboxEvent second;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(relay, "batchSize", 2);
+        ReflectionTestUtils.setField(relay, "confirmTimeoutMs", 100L);
+
+        first = outboxEvent();
+        second = outboxEvent();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testRelayBatchDeletesConfirmedEvents() {
+        when(repository.findNextBatch(any(Pageable.class))).thenReturn(List.of(first, second));
+        when(publisher.sendBatch(anyList())).thenReturn(List.of(
+            CompletableFuture.completedFuture(true),
+            CompletableFuture.completedFuture(true)
+        ));
+        ArgumentCaptor<List<OutboundMessage>> captor = ArgumentCaptor.forClass(List.class);
+
+        int relayed = relay.relayBatch();
+
+        assertEquals(2, relayed);
+        verify(publisher).sendBatch(captor.capture());
+        verify(repository).deleteAllInBatch(List.of(first, second));
+
+        OutboundMessage outbound = captor.getValue().get(0);
+        Message message = outbound.message();
+        assertEquals(RabbitMQConfig.POLICY_EVENTS_EXCHANGE, outbound.exchange());
+        assertEquals(RabbitMQConfig.POLICY_CREATED_KEY, outbound.routingKey());
+        assertEquals("{\"status\":\"RECEIVED\"}", new String(message.getBody(), StandardCharsets.UTF_8));
+        assertEquals(first.getEventType(), message.getMessageProperties().getHeader(OutboxRelay.TYPE_ID_HEADER));
+        assertEquals(first.getId().toString(), message.getMessageProperties().getMessageId());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testRelayBatchStampsStoredShard() {
+        second.setShard(5);
+        when(repository.findNextBatch(any(Pageable.class))).thenReturn(List.of(first, second));
+        when(publisher.sendBatch(anyList())).thenReturn(List.of(
+            CompletableFuture.completedFuture(true),
+            CompletableFuture.completedFuture(true)
+        ));
+        ArgumentCaptor<List<OutboundMessage>> captor = ArgumentCaptor.forClass(List.class);
+
+        relay.relayBatch();
+
+        verify(publisher).sendBatch(captor.capture());
+        assertNull(captor.getValue().get(0).message().getMessageProperties().getHeader(PipelineShards.SHARD_HEADER));
+        assertEquals("5", captor.getValue().get(1).message().getMessageProperties().getHeader(PipelineShards.SHARD_HEADER));
+    }
+
+    @Test
+    void testRelayBatchKeepsNackedAndUnconfirmedEvents() {
+        when(repository.findNextBatch(any(Pageable.class))).thenReturn(List.of(first, second));
+        when(publisher.sendBatch(anyList())).thenReturn(List.of(
+            CompletableFuture.completedFuture(false),
+            new CompletableFuture<>()
+        ));
+
+        int relayed = relay.relayBatch();
+
+        assertEquals(0, relayed);
+        verify(repository).deleteAllInBatch(Collections.emptyList());
+    }
+
+    @Test
+    void testRelayWithEmptyOutbox() {
+        when(repository.findNextBatch(any(Pageable.class))).thenReturn(Collections.emptyList());
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+
+        relay.relay();
+
+        verify(publisher, never()).sendBatch(anyList());
+    }
+
+    private OutboxEvent outboxEvent() {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(UUID.randomUUID());
+        event.setExchange(RabbitMQConfig.POLICY_EVENTS_EXCHANGE);
+        event.setRoutingKey(RabbitMQConfig.POLICY_CREATED_KEY);
+        event.setEventType("com.insurance.event.PolicyRequestCreatedEvent");
+        event.setPayload("{\"status\":\"RECEIVED\"}");
+        return event;
+    }
+}
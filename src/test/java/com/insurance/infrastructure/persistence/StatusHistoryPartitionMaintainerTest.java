@@ -0,0 +1,58 @@
+package com.insurance.infrastructure.persistence;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.YearMonth;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class StatusHistoryPartitionMaintainerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void testPartitionDdlCoversOneMonth() {
+        assertEquals("CREATE TABLE IF NOT EXISTS status_history_2024_12 PARTITION OF status_history "
+                + "FOR VALUES FROM ('2024-12-01') TO ('2025-01-01')",
+            StatusHistoryPartitionMaintainer.partitionDdl(YearMonth.of(2024, 12)));
+    }
+
+    @Test
+    void testCreatesCurrentAndUpcomingMonths() {
+        StatusHistoryPartitionMaintainer maintainer = new StatusHistoryPartitionMaintainer(jdbcTemplate, 2);
+
+        maintainer.ensurePartitions();
+
+        YearMonth now = YearMonth.now();
+        verify(jdbcTemplate).execute(StatusHistoryPartitionMaintainer.partitionDdl(now));
+        verify(jdbcTemplate).execute(StatusHistoryPartitionMaintainer.partitionDdl(now.plusMonths(1)));
+        verify(jdbcTemplate).execute(StatusHistoryPartitionMaintainer.partitionDdl(now.plusMonths(2)));
+    }
+
+    @Test
+    void testContinuesAfterFailedPartition() {
+        doThrow(new DataAccessResourceFailureException("down"))
+            .when(jdbcTemplate).execute(StatusHistoryPartitionMaintainer.partitionDdl(YearMonth.now()));
+        StatusHistoryPartitionMaintainer maintainer = new StatusHistoryPartitionMaintainer(jdbcTemplate, 1);
+
+        maintainer.ensurePartitions();
+
+        verify(jdbcTemplate, times(2)).execute(anyString());
+    }
+
+    @Test
+    void testRejectsNegativeMonthsAhead() {
+        assertThrows(IllegalArgumentException.class, () -> new StatusHistoryPartitionMaintainer(jdbcTemplate, -1));
+    }
+}
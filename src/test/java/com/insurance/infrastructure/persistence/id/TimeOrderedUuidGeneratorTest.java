@@ -0,0 +1,103 @@
+package com.insurance.infrastructure.persistence.id;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class TimeOrderedUuidGeneratorTest {
+
+    private static final long NOW = 1_709_287_200_000L;
+
+    @Test
+    void testGeneratesVersion7WithRfcVariant() {
+        UUID id = new TimeOrderedUuidGenerator(() -> NOW).next();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+    }
+
+    @Test
+    void testEncodesMillisecondTimestampInLeadingBits() {
+        UUID id = new TimeOrderedUuidGenerator(() -> NOW).next();
+
+        assertEquals(NOW, id.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void testIdsIncreaseWithinSameMillisecond() {
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(() -> NOW);
+
+        UUID previous = generator.next();
+        for (int i = 0; i < 10_000; i++) {
+            UUID next = generator.next();
+            assertTrue(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()) > 0);
+            previous = next;
+        }
+    }
+
+    @Test
+    void testIdsIncreaseAcrossMilliseconds() {
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(clock::get);
+
+        UUID first = generator.next();
+        clock.incrementAndGet();
+        UUID second = generator.next();
+
+        assertEquals(NOW + 1, second.getMostSignificantBits() >>> 16);
+        assertTrue(second.compareTo(first) > 0);
+    }
+
+    @Test
+    void testClockMovingBackwardsKeepsOrder() {
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(clock::get);
+
+        UUID first = generator.next();
+        clock.set(NOW - 1_000);
+        UUID second = generator.next();
+
+        assertTrue(second.compareTo(first) > 0);
+        assertEquals(NOW, second.getMostSignificantBits() >>> 16);
+    }
+
+    @Test
+    void testConcurrentGenerationProducesUniqueIds() throws InterruptedException {
+        TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator(System::currentTimeMillis);
+        int threads = 8;
+        int perThread = 5_000;
+        Set<UUID> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int t = 0; t < threads; t++) {
+                executor.execute(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(generator.next());
+                    }
+                });
+            }
+            start.countDown();
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        assertEquals(threads * perThread, ids.size());
+    }
+}
@@ -0,0 +1,77 @@
+package com.insurance.infrastructure.persistence.id;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Compares insert throughput and primary key index size of random (v4) and time-ordered (v7)
+ * UUID keys on Postgres. Not part of the test suite; run the main method against the
+ * docker-compose database:
+ *
+ * <pre>
+ * -Dbenchmark.url=jdbc:postgresql://localhost:5432/insurance_db -Dbenchmark.rows=2000000
+ * </pre>
+ */
+public final class TimeOrderedUuidInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private TimeOrderedUuidInsertBenchmark() {
+    }
+
+    public static void main(String[] args) throws SQLException {
+        String url = System.getProperty("benchmark.url", "jdbc:postgresql://localhost:5432/insurance_db");
+        String user = System.getProperty("benchmark.user", "postgres");
+        String password = System.getProperty("benchmark.password", "postgres");
+        int rows = Integer.getInteger("benchmark.rows", 1_000_000);
+
+        try (Connection connection = DriverManager.getConnection(url, user, password)) {
+            connection.setAutoCommit(false);
+            run(connection, "uuid_bench_v4", rows, UUID::randomUUID);
+            run(connection, "uuid_bench_v7", rows, TimeOrderedUuidGenerator.instance()::next);
+        }
+    }
+
+    private static void run(Connection connection, String table, int rows, Supplier<UUID> ids) throws SQLException {
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE IF EXISTS " + table);
+            ddl.execute("CREATE TABLE " + table + " (id uuid PRIMARY KEY, payload varchar(64) NOT NULL)");
+        }
+        connection.commit();
+
+        long started = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO " + table + " (id, payload) VALUES (?, ?)")) {
+            for (int i = 1; i <= rows; i++) {
+                insert.setObject(1, ids.get());
+                insert.setString(2, "row-" + i);
+                insert.addBatch();
+                if (i % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+        try (Statement query = connection.createStatement();
+             ResultSet size = query.executeQuery("SELECT pg_relation_size('" + table + "_pkey')")) {
+            size.next();
+            System.out.printf("%s: %d rows in %.2fs (%.0f rows/s), primary key index %d MB%n",
+                table, rows, seconds, rows / seconds, size.getLong(1) / (1024 * 1024));
+        }
+
+        try (Statement ddl = connection.createStatement()) {
+            ddl.execute("DROP TABLE " + table);
+        }
+        connection.commit();
+    }
+}
@@ -0,0 +1,75 @@
+package com.insurance.repository;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.insurance.domain.IdempotencyRecord;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.dao.DataIntegrityViolationException;
+
+@DataJpaTest
+class IdempotencyRecordRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private IdempotencyRecordRepository repository;
+
+    @Test
+    void testSecondClaimOnSameKeyFails() {
+        UUID key = UUID.randomUUID();
+        repository.saveAndFlush(claim(key, LocalDateTime.now().plusSeconds(30)));
+        entityManager.clear();
+
+        assertThrows(DataIntegrityViolationException.class, () ->
+            repository.saveAndFlush(claim(key, LocalDateTime.now().plusSeconds(30)))
+        );
+    }
+
+    @Test
+    void testCompletedResponseSurvivesRelease() {
+        UUID key = UUID.randomUUID();
+        byte[] body = "{\"id\":\"1\"}".getBytes(StandardCharsets.UTF_8);
+        repository.saveAndFlush(claim(key, LocalDateTime.now().plusSeconds(30)));
+
+        assertEquals(1, repository.complete(key, 201, "application/json", body, LocalDateTime.now().plusDays(1)));
+        assertEquals(0, repository.deleteClaim(key));
+        entityManager.clear();
+
+        IdempotencyRecord stored = repository.findById(key).orElseThrow();
+        assertTrue(stored.isCompleted());
+        assertEquals(201, stored.getResponseStatus());
+        assertArrayEquals(body, stored.getResponseBody());
+    }
+
+    @Test
+    void testDeleteExpiredKeepsLiveRows() {
+        LocalDateTime now = LocalDateTime.now();
+        UUID expired = UUID.randomUUID();
+        UUID live = UUID.randomUUID();
+        repository.saveAndFlush(claim(expired, now.minusSeconds(1)));
+        repository.saveAndFlush(claim(live, now.plusSeconds(30)));
+
+        assertEquals(1, repository.deleteExpired(now));
+        entityManager.clear();
+
+        assertTrue(repository.findById(expired).isEmpty());
+        assertTrue(repository.findById(live).isPresent());
+    }
+
+    private IdempotencyRecord claim(UUID key, LocalDateTime expiresAt) {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setId(key);
+        record.setExpiresAt(expiresAt);
+        return record;
+    }
+}
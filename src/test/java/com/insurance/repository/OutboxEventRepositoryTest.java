@@ -0,0 +1,66 @@
+package com.insurance.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.insurance.domain.OutboxEvent;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+@DataJpaTest(properties = "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect")
+class OutboxEventRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private OutboxEventRepository repository;
+
+    @Test
+    void testEventsWithSameTimestampAreReturnedInIdOrder() {
+        LocalDateTime createdAt = LocalDateTime.now();
+        List<OutboxEvent> events = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            events.add(event(createdAt, "{\"seq\":" + i + "}"));
+        }
+        List<UUID> written = repository.saveAllAndFlush(events).stream().map(OutboxEvent::getId).toList();
+        entityManager.clear();
+
+        List<OutboxEvent> batch = repository.findNextBatch(PageRequest.of(0, 10));
+
+        assertEquals(written, batch.stream().map(OutboxEvent::getId).toList());
+        assertEquals("{\"seq\":0}", batch.get(0).getPayload());
+    }
+
+    @Test
+    void testOlderEventsComeFirst() {
+        LocalDateTime now = LocalDateTime.now();
+        OutboxEvent newer = repository.save(event(now, "{\"seq\":1}"));
+        OutboxEvent older = repository.save(event(now.minusSeconds(1), "{\"seq\":0}"));
+        repository.flush();
+        entityManager.clear();
+
+        List<OutboxEvent> batch = repository.findNextBatch(PageRequest.of(0, 1));
+
+        assertEquals(List.of(older.getId()), batch.stream().map(OutboxEvent::getId).toList());
+        assertEquals(2, repository.count());
+        assertEquals(newer.getId(), repository.findNextBatch(PageRequest.of(1, 1)).get(0).getId());
+    }
+
+    private OutboxEvent event(LocalDateTime createdAt, String payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.setExchange("policy.events.exchange");
+        event.setRoutingKey("policy.created");
+        event.setEventType("com.insurance.event.PolicyRequestCreatedEvent");
+        event.setPayload(payload);
+        event.setCreatedAt(createdAt);
+        event.setUpdatedAt(createdAt);
+        return event;
+    }
+}
@@ -3,28 +3,38 @@ package com.insurance.repository;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.insurance.domain.PolicyRequest;
+import com.insurance.domain.StatusHistory;
 import com.insurance.domain.enums.InsuranceCategory;
 import com.insurance.domain.enums.PaymentMethod;
 import com.insurance.domain.enums.PolicyRequestStatus;
 import com.insurance.domain.enums.SalesChannel;
+import jakarta.persistence.OptimisticLockException;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 
-@DataJpaTest
+@DataJpaTest(properties = {
+    "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
 class PolicyRequestRepositoryTest {
 
     @Autowired
@@ -33,6 +43,9 @@ class PolicyRequestRepositoryTest {
     @Autowired
     private PolicyRequestRepository repository;
 
+    @Autowired
+    private StatusHistoryRepository statusHistoryRepository;
+
     private UUID customerId;
     private PolicyRequest policyRequest;
 
@@ -81,6 +94,149 @@ class PolicyRequestRepositoryTest {
         assertTrue(foundRequests.stream().allMatch(r -> r.getCustomerId().equals(customerId)));
     }
 
+    @Test
+    void testCreateWritesSingleRow() {
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        entityManager.persistAndFlush(policyRequest);
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testCoveragesAndAssistancesRoundTripAsJson() {
+        PolicyRequest savedRequest = entityManager.persistAndFlush(policyRequest);
+        entityManager.clear();
+
+        PolicyRequest found = repository.findById(savedRequest.getId()).orElseThrow();
+
+        assertEquals(0, new BigDecimal("30000").compareTo(found.getCoverages().get("Collision")));
+        assertEquals(0, new BigDecimal("20000").compareTo(found.getCoverages().get("Theft")));
+        assertEquals(Arrays.asList("Roadside Assistance", "Glass Protection"), found.getAssistances());
+    }
+
+    @Test
+    void testCustomerListingWithHistoryUsesConstantNumberOfQueries() {
+        int requestCount = 5;
+        for (int i = 0; i < requestCount; i++) {
+            PolicyRequest request = entityManager.persist(createSamplePolicyRequest(customerId));
+            entityManager.persist(createStatusHistory(request.getId(), LocalDateTime.now()));
+        }
+        entityManager.persist(createSamplePolicyRequest(UUID.randomUUID()));
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        List<PolicyRequest> foundRequests = repository.findByCustomerId(customerId);
+        List<StatusHistory> history = statusHistoryRepository.findLatestByCustomerId(customerId, 50);
+        for (PolicyRequest request : foundRequests) {
+            assertEquals(2, request.getCoverages().size());
+            assertEquals(2, request.getAssistances().size());
+        }
+
+        assertEquals(requestCount, foundRequests.size());
+        assertEquals(requestCount, history.size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void testListingHistoryIsCappedPerRequest() {
+        PolicyRequest first = entityManager.persist(createSamplePolicyRequest(customerId));
+        PolicyRequest second = entityManager.persist(createSamplePolicyRequest(customerId));
+        LocalDateTime start = LocalDateTime.now().minusHours(1).truncatedTo(ChronoUnit.MILLIS);
+        for (int i = 0; i < 5; i++) {
+            entityManager.persist(createStatusHistory(first.getId(), start.plusMinutes(i)));
+        }
+        entityManager.persist(createStatusHistory(second.getId(), start));
+        entityManager.flush();
+        entityManager.clear();
+
+        List<StatusHistory> byCustomer = statusHistoryRepository.findLatestByCustomerId(customerId, 2);
+        List<StatusHistory> byIds = statusHistoryRepository.findLatestByPolicyRequestIdIn(
+            List.of(first.getId(), second.getId()), 2);
+
+        for (List<StatusHistory> history : List.of(byCustomer, byIds)) {
+            assertEquals(3, history.size());
+            List<StatusHistory> ofFirst = history.stream()
+                .filter(entry -> entry.getPolicyRequestId().equals(first.getId()))
+                .toList();
+            assertEquals(List.of(start.plusMinutes(4), start.plusMinutes(3)),
+                         ofFirst.stream().map(StatusHistory::getChangedAt).toList());
+        }
+    }
+
+    @Test
+    void testAppendingStatusHistoryDoesNotTouchPolicyRequest() {
+        PolicyRequest savedRequest = entityManager.persistAndFlush(policyRequest);
+        entityManager.clear();
+
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        statusHistoryRepository.saveAndFlush(createStatusHistory(savedRequest.getId(), LocalDateTime.now()));
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void testStatusHistoryReadIsBoundedAndNewestFirst() {
+        PolicyRequest savedRequest = entityManager.persist(policyRequest);
+        LocalDateTime start = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).minusHours(1);
+        for (int i = 0; i < 5; i++) {
+            entityManager.persist(createStatusHistory(savedRequest.getId(), start.plusMinutes(i)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<StatusHistory> history = statusHistoryRepository.findByPolicyRequestIdOrderByChangedAtDesc(
+            savedRequest.getId(), PageRequest.of(0, 3));
+
+        assertEquals(3, history.size());
+        assertEquals(start.plusMinutes(4), history.get(0).getChangedAt());
+        assertEquals(start.plusMinutes(2), history.get(2).getChangedAt());
+    }
+
+    @Test
+    void testTransitionFlushesUpdateAndHistoryAfterSingleLoad() {
+        PolicyRequest savedRequest = entityManager.persistAndFlush(policyRequest);
+        entityManager.clear();
+
+        Statistics statistics = statistics();
+        statistics.clear();
+
+        PolicyRequest found = repository.findById(savedRequest.getId()).orElseThrow();
+        StatusHistory history = found.updateStatus(PolicyRequestStatus.VALIDATED);
+        history.setCreatedAt(LocalDateTime.now());
+        history.setUpdatedAt(LocalDateTime.now());
+        statusHistoryRepository.save(history);
+        entityManager.flush();
+
+        // one select, then the versioned update and the history insert in a single flush
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getEntityLoadCount());
+        assertEquals(savedRequest.getVersion() + 1, found.getVersion());
+    }
+
+    @Test
+    void testStaleTransitionIsRejected() {
+        PolicyRequest savedRequest = entityManager.persistAndFlush(policyRequest);
+        entityManager.clear();
+
+        PolicyRequest found = repository.findById(savedRequest.getId()).orElseThrow();
+        entityManager.getEntityManager()
+            .createQuery("update PolicyRequest p set p.version = p.version + 1 where p.id = :id")
+            .setParameter("id", found.getId())
+            .executeUpdate();
+
+        found.updateStatus(PolicyRequestStatus.CANCELLED);
+
+        assertThrows(OptimisticLockException.class, () -> entityManager.flush());
+    }
+
     @Test
     void testDeletePolicyRequest() {
         PolicyRequest savedRequest = entityManager.persistAndFlush(policyRequest);
@@ -129,6 +285,25 @@ class PolicyRequestRepositoryTest {
         assertTrue(foundRequests.isEmpty());
     }
 
+    private Statistics statistics() {
+        return entityManager.getEntityManager()
+            .getEntityManagerFactory()
+            .unwrap(SessionFactory.class)
+            .getStatistics();
+    }
+
+    private StatusHistory createStatusHistory(UUID policyRequestId, LocalDateTime changedAt) {
+        LocalDateTime now = LocalDateTime.now();
+        StatusHistory history = new StatusHistory();
+        history.setPolicyRequestId(policyRequestId);
+        history.setPreviousStatus(PolicyRequestStatus.RECEIVED);
+        history.setNewStatus(PolicyRequestStatus.VALIDATED);
+        history.setChangedAt(changedAt);
+        history.setCreatedAt(now);
+        history.setUpdatedAt(now);
+        return history;
+    }
+
     private PolicyRequest createSamplePolicyRequest(UUID customerId) {
         LocalDateTime now = LocalDateTime.now();
         PolicyRequest request = new PolicyRequest();
@@ -2,10 +2,12 @@ package com.insurance.service.impl;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -14,18 +16,31 @@ import com.insurance.domain.PolicyRequest;
 import com.insurance.domain.RiskAnalysis;
 import com.insurance.domain.RiskOccurrence;
 import com.insurance.domain.enums.CustomerRiskType;
+import com.insurance.infrastructure.client.FraudAnalysisBatcher;
+import com.insurance.infrastructure.client.FraudAnalysisCache;
 import com.insurance.infrastructure.client.FraudAnalysisClient;
+import com.insurance.infrastructure.client.FraudProviderGuard;
+import com.insurance.infrastructure.client.FraudProviderUnavailableException;
+import com.insurance.infrastructure.client.config.FraudProviderProperties;
 import com.insurance.infrastructure.client.dto.FraudAnalysisResponse;
+import com.insurance.service.scoring.LocalRiskScoringEngine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
 
 @ExtendWith(MockitoExtension.class)
 class FraudAnalysisServiceImplTest {
@@ -33,6 +48,19 @@ class FraudAnalysisServiceImplTest {
     @Mock
     private FraudAnalysisClient fraudAnalysisClient;
 
+    @Mock
+    private FraudAnalysisCache fraudAnalysisCache;
+
+    @Mock
+    private FraudAnalysisBatcher fraudAnalysisBatcher;
+
+    @Spy
+    private FraudProviderGuard fraudProviderGuard =
+        new FraudProviderGuard(new FraudProviderProperties(), new SimpleMeterRegistry());
+
+    @Mock
+    private LocalRiskScoringEngine localRiskScoringEngine;
+
     @InjectMocks
     private FraudAnalysisServiceImpl fraudAnalysisService;
 
@@ -255,6 +283,135 @@ class FraudAnalysisServiceImplTest {
         }
     }
 
+    @Test
+    void testAnalyzeFraudCachesProviderResponse() {
+        FraudAnalysisResponse response = createFraudAnalysisResponse(
+            CustomerRiskType.PREFERRED,
+            now,
+            List.of()
+        );
+
+        when(fraudAnalysisClient.analyzeFraud(eq(requestId), eq(customerId)))
+            .thenReturn(response);
+
+        fraudAnalysisService.analyzeFraud(policyRequest);
+
+        verify(fraudAnalysisCache).put(customerId, response);
+    }
+
+    @Test
+    void testAnalyzeFraudUsesCachedResult() {
+        var occurrence = createRiskOccurrenceResponse(
+            "CLAIMS_FREQUENCY",
+            "High frequency of claims in the last 12 months",
+            now.minusDays(5),
+            now.minusDays(4)
+        );
+        when(fraudAnalysisCache.get(customerId)).thenReturn(Optional.of(
+            new FraudAnalysisCache.CachedFraudAnalysis(CustomerRiskType.HIGH_RISK, now, List.of(occurrence))));
+
+        RiskAnalysis result = fraudAnalysisService.analyzeFraud(policyRequest);
+
+        assertEquals(CustomerRiskType.HIGH_RISK, result.getClassification());
+        assertEquals(now, result.getAnalyzedAt());
+        assertEquals(1, result.getOccurrences().size());
+        assertEquals("CLAIMS_FREQUENCY", result.getOccurrences().get(0).getType());
+
+        verify(fraudAnalysisClient, never()).analyzeFraud(any(), any());
+    }
+
+    @Test
+    void testAnalyzeFraudDoesNotCacheInvalidResponse() {
+        when(fraudAnalysisClient.analyzeFraud(eq(requestId), eq(customerId)))
+            .thenReturn(null);
+
+        assertThrows(IllegalStateException.class, () ->
+            fraudAnalysisService.analyzeFraud(policyRequest)
+        );
+
+        verify(fraudAnalysisCache, never()).put(any(), any());
+    }
+
+    @Test
+    void testAnalyzeFraudInBatchMode() {
+        ReflectionTestUtils.setField(fraudAnalysisService, "batchEnabled", true);
+        FraudAnalysisResponse response = createFraudAnalysisResponse(
+            CustomerRiskType.REGULAR,
+            now,
+            List.of()
+        );
+        when(fraudAnalysisBatcher.submit(requestId, customerId))
+            .thenReturn(CompletableFuture.completedFuture(response));
+
+        RiskAnalysis result = fraudAnalysisService.analyzeFraud(policyRequest);
+
+        assertEquals(CustomerRiskType.REGULAR, result.getClassification());
+        verify(fraudAnalysisClient, never()).analyzeFraud(any(), any());
+        verify(fraudAnalysisCache).put(customerId, response);
+    }
+
+    @Test
+    void testAnalyzeFraudInBatchModeWithFailure() {
+        ReflectionTestUtils.setField(fraudAnalysisService, "batchEnabled", true);
+        when(fraudAnalysisBatcher.submit(requestId, customerId))
+            .thenReturn(CompletableFuture.failedFuture(new RestClientException("API Error")));
+
+        assertThrows(RestClientException.class, () ->
+            fraudAnalysisService.analyzeFraud(policyRequest)
+        );
+    }
+
+    @Test
+    void testAnalyzeFraudFallsBackToLocalScoringOnTimeout() {
+        ReflectionTestUtils.setField(fraudAnalysisService, "fallbackEnabled", true);
+        RiskAnalysis provisional = new RiskAnalysis();
+        provisional.setClassification(CustomerRiskType.NO_INFORMATION);
+        provisional.setProvisional(true);
+        when(fraudAnalysisClient.analyzeFraud(eq(requestId), eq(customerId)))
+            .thenThrow(new ResourceAccessException("Read timed out"));
+        when(localRiskScoringEngine.score(policyRequest)).thenReturn(provisional);
+
+        RiskAnalysis result = fraudAnalysisService.analyzeFraud(policyRequest);
+
+        assertSame(provisional, result);
+        verify(fraudAnalysisCache, never()).put(any(), any());
+    }
+
+    @Test
+    void testAnalyzeFraudFallsBackToLocalScoringWhenCircuitOpen() {
+        ReflectionTestUtils.setField(fraudAnalysisService, "fallbackEnabled", true);
+        RiskAnalysis provisional = new RiskAnalysis();
+        doThrow(new FraudProviderUnavailableException("Circuit open", null)).when(fraudProviderGuard).call(any());
+        when(localRiskScoringEngine.score(policyRequest)).thenReturn(provisional);
+
+        assertSame(provisional, fraudAnalysisService.analyzeFraud(policyRequest));
+    }
+
+    @Test
+    void testAnalyzeFraudWithoutFallbackPropagatesUnavailability() {
+        when(fraudAnalysisClient.analyzeFraud(eq(requestId), eq(customerId)))
+            .thenThrow(new ResourceAccessException("Read timed out"));
+
+        assertThrows(ResourceAccessException.class, () ->
+            fraudAnalysisService.analyzeFraud(policyRequest)
+        );
+
+        verify(localRiskScoringEngine, never()).score(any());
+    }
+
+    @Test
+    void testAnalyzeFraudDoesNotFallBackOnProviderErrors() {
+        ReflectionTestUtils.setField(fraudAnalysisService, "fallbackEnabled", true);
+        when(fraudAnalysisClient.analyzeFraud(eq(requestId), eq(customerId)))
+            .thenThrow(new RestClientException("API Error"));
+
+        assertThrows(RestClientException.class, () ->
+            fraudAnalysisService.analyzeFraud(policyRequest)
+        );
+
+        verify(localRiskScoringEngine, never()).score(any());
+    }
+
     private FraudAnalysisResponse createFraudAnalysisResponse(
             CustomerRiskType classification,
             LocalDateTime analyzedAt,
@@ -0,0 +1,139 @@
+package com.insurance.service.impl;
+
+import com.insurance.domain.PolicyRequest;
+import com.insurance.domain.enums.InsuranceCategory;
+import com.insurance.domain.enums.PaymentMethod;
+import com.insurance.domain.enums.SalesChannel;
+import com.insurance.dto.PolicyRequestBatchResultDTO;
+import com.insurance.dto.PolicyRequestDTO;
+import com.insurance.mapper.PolicyRequestMapper;
+import com.insurance.service.PolicyRequestService;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PolicyRequestBatchServiceImplTest {
+
+    @Mock
+    private PolicyRequestService policyRequestService;
+
+    @Spy
+    private PolicyRequestMapper mapper = new PolicyRequestMapper();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @InjectMocks
+    private PolicyRequestBatchServiceImpl batchService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(batchService, "maxBatchSize", 10);
+    }
+
+    @Test
+    void testCreateBatchAllValid() {
+        List<PolicyRequestDTO> requests = Arrays.asList(validDTO(), validDTO());
+        when(policyRequestService.createPolicyRequests(anyList())).thenAnswer(invocation -> {
+            List<PolicyRequest> entities = invocation.getArgument(0);
+            entities.forEach(entity -> entity.setId(UUID.randomUUID()));
+            return entities;
+        });
+
+        List<PolicyRequestBatchResultDTO> results = batchService.createBatch(requests);
+
+        assertEquals(2, results.size());
+        assertTrue(results.stream().allMatch(PolicyRequestBatchResultDTO::isSuccess));
+        assertNotNull(results.get(0).getPolicyRequest().getId());
+        assertEquals(0, results.get(0).getIndex());
+        assertEquals(1, results.get(1).getIndex());
+        verify(policyRequestService, times(1)).createPolicyRequests(anyList());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void testCreateBatchInvalidItemDoesNotFailBatch() {
+        PolicyRequestDTO invalid = validDTO();
+        invalid.setCustomerId(null);
+        List<PolicyRequestDTO> requests = Arrays.asList(validDTO(), invalid, validDTO());
+        when(policyRequestService.createPolicyRequests(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<PolicyRequestBatchResultDTO> results = batchService.createBatch(requests);
+
+        assertEquals(3, results.size());
+        assertTrue(results.get(0).isSuccess());
+        assertFalse(results.get(1).isSuccess());
+        assertEquals("Customer ID is required", results.get(1).getError());
+        assertNull(results.get(1).getPolicyRequest());
+        assertTrue(results.get(2).isSuccess());
+
+        ArgumentCaptor<List<PolicyRequest>> captor = ArgumentCaptor.forClass(List.class);
+        verify(policyRequestService).createPolicyRequests(captor.capture());
+        assertEquals(2, captor.getValue().size());
+    }
+
+    @Test
+    void testCreateBatchNullItem() {
+        List<PolicyRequestDTO> requests = new ArrayList<>();
+        requests.add(null);
+
+        List<PolicyRequestBatchResultDTO> results = batchService.createBatch(requests);
+
+        assertEquals(1, results.size());
+        assertEquals("Policy request cannot be null", results.get(0).getError());
+        verify(policyRequestService, never()).createPolicyRequests(any());
+    }
+
+    @Test
+    void testCreateBatchEmpty() {
+        assertThrows(IllegalArgumentException.class, () ->
+            batchService.createBatch(Collections.emptyList())
+        );
+    }
+
+    @Test
+    void testCreateBatchExceedsMaxSize() {
+        List<PolicyRequestDTO> requests = new ArrayList<>();
+        for (int i = 0; i < 11; i++) {
+            requests.add(validDTO());
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> batchService.createBatch(requests));
+        verify(policyRequestService, never()).createPolicyRequests(any());
+    }
+
+    private PolicyRequestDTO validDTO() {
+        PolicyRequestDTO dto = new PolicyRequestDTO();
+        dto.setCustomerId(UUID.randomUUID());
+        dto.setProductId(UUID.randomUUID());
+        dto.setCategory(InsuranceCategory.AUTO);
+        dto.setSalesChannel(SalesChannel.MOBILE);
+        dto.setPaymentMethod(PaymentMethod.CREDIT_CARD);
+        dto.setTotalMonthlyPremiumAmount(new BigDecimal("150.00"));
+        dto.setInsuredAmount(new BigDecimal("50000.00"));
+        dto.setCoverages(Map.of("Collision", new BigDecimal("50000.00")));
+        return dto;
+    }
+}
@@ -0,0 +1,162 @@
+package com.insurance.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.insurance.dto.PolicyRequestBatchResultDTO;
+import com.insurance.dto.PolicyRequestDTO;
+import com.insurance.dto.PolicyRequestImportResultDTO;
+import com.insurance.service.PolicyRequestBatchService;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PolicyRequestImportServiceImplTest {
+
+    @Mock
+    private PolicyRequestBatchService batchService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @InjectMocks
+    private PolicyRequestImportServiceImpl importService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(importService, "chunkSize", 2);
+    }
+
+    @Test
+    void testImportInBoundedChunks() throws Exception {
+        List<Integer> chunkSizes = new ArrayList<>();
+        when(batchService.createBatch(anyList())).thenAnswer(invocation -> {
+            List<PolicyRequestDTO> chunk = invocation.getArgument(0);
+            chunkSizes.add(chunk.size());
+            return successes(chunk.size());
+        });
+
+        PolicyRequestImportResultDTO result = importService.importNdjson(ndjson(line(), line(), line(), line(), line()));
+
+        assertEquals(5, result.getReceived());
+        assertEquals(5, result.getImported());
+        assertEquals(0, result.getFailed());
+        assertEquals(List.of(2, 2, 1), chunkSizes);
+    }
+
+    @Test
+    void testManagedEntitiesStayBoundedAcrossChunks() throws Exception {
+        // Stands in for the request-scoped persistence context the batch service writes into
+        List<Object> managed = new ArrayList<>();
+        List<Integer> managedPerChunk = new ArrayList<>();
+        when(batchService.createBatch(anyList())).thenAnswer(invocation -> {
+            List<PolicyRequestDTO> chunk = invocation.getArgument(0);
+            managed.addAll(chunk);
+            managedPerChunk.add(managed.size());
+            return successes(chunk.size());
+        });
+        doAnswer(invocation -> {
+            managed.clear();
+            return null;
+        }).when(entityManager).clear();
+
+        importService.importNdjson(ndjson(line(), line(), line(), line(), line(), line(), line()));
+
+        assertEquals(List.of(2, 2, 2, 1), managedPerChunk);
+        assertTrue(managed.isEmpty());
+        verify(entityManager, times(4)).clear();
+    }
+
+    @Test
+    void testImportReportsItemFailuresWithRecordNumber() throws Exception {
+        when(batchService.createBatch(anyList())).thenAnswer(invocation -> {
+            List<PolicyRequestDTO> chunk = invocation.getArgument(0);
+            List<PolicyRequestBatchResultDTO> results = successes(chunk.size());
+            if (chunk.size() == 2) {
+                results.get(1).setError("Customer ID is required");
+            }
+            return results;
+        });
+
+        PolicyRequestImportResultDTO result = importService.importNdjson(ndjson(line(), line(), line()));
+
+        assertEquals(3, result.getReceived());
+        assertEquals(2, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertEquals(List.of("record 2: Customer ID is required"), result.getErrors());
+    }
+
+    @Test
+    void testImportSkipsUnmappableRecord() throws Exception {
+        when(batchService.createBatch(anyList())).thenAnswer(invocation ->
+            successes(((List<?>) invocation.getArgument(0)).size()));
+
+        String invalidCategory = line().replace("\"AUTO\"", "\"UNKNOWN\"");
+        PolicyRequestImportResultDTO result = importService.importNdjson(ndjson(line(), invalidCategory, line()));
+
+        assertEquals(3, result.getReceived());
+        assertEquals(2, result.getImported());
+        assertEquals(1, result.getFailed());
+        assertTrue(result.getErrors().get(0).startsWith("record 2:"));
+    }
+
+    @Test
+    void testImportStopsOnMalformedJson() throws Exception {
+        when(batchService.createBatch(anyList())).thenAnswer(invocation ->
+            successes(((List<?>) invocation.getArgument(0)).size()));
+
+        PolicyRequestImportResultDTO result = importService.importNdjson(ndjson(line(), "{\"customerId\": ]}", line()));
+
+        assertEquals(1, result.getImported());
+        assertEquals(1, result.getFailed());
+        verify(batchService, times(1)).createBatch(anyList());
+    }
+
+    @Test
+    void testImportEmptyStream() throws Exception {
+        PolicyRequestImportResultDTO result = importService.importNdjson(ndjson());
+
+        assertEquals(0, result.getReceived());
+        verify(batchService, never()).createBatch(anyList());
+    }
+
+    private List<PolicyRequestBatchResultDTO> successes(int size) {
+        List<PolicyRequestBatchResultDTO> results = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            PolicyRequestBatchResultDTO result = new PolicyRequestBatchResultDTO();
+            result.setIndex(i);
+            results.add(result);
+        }
+        return results;
+    }
+
+    private String line() {
+        return "{\"customerId\":\"" + UUID.randomUUID() + "\",\"productId\":\"" + UUID.randomUUID() + "\","
+            + "\"category\":\"AUTO\",\"salesChannel\":\"MOBILE\",\"paymentMethod\":\"CREDIT_CARD\","
+            + "\"totalMonthlyPremiumAmount\":150.00,\"insuredAmount\":50000.00,"
+            + "\"coverages\":{\"Collision\":50000.00},\"assistances\":[\"Roadside Assistance\"]}";
+    }
+
+    private InputStream ndjson(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+}
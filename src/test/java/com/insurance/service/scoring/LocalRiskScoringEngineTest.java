@@ -0,0 +1,109 @@
+package com.insurance.service.scoring;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.insurance.domain.PolicyRequest;
+import com.insurance.domain.RiskAnalysis;
+import com.insurance.domain.RiskOccurrence;
+import com.insurance.domain.enums.CustomerRiskType;
+import com.insurance.domain.enums.InsuranceCategory;
+import com.insurance.domain.enums.SalesChannel;
+import com.insurance.repository.PolicyRequestRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+@ExtendWith(MockitoExtension.class)
+class LocalRiskScoringEngineTest {
+
+    @Mock
+    private PolicyRequestRepository repository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LocalRiskScoringEngine engine;
+    private PolicyRequest request;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        engine = new LocalRiskScoringEngine(repository, meterRegistry, 20);
+
+        request = new PolicyRequest();
+        request.setId(UUID.randomUUID());
+        request.setCustomerId(UUID.randomUUID());
+        request.setSalesChannel(SalesChannel.BROKER);
+        request.setCategory(InsuranceCategory.LIFE);
+    }
+
+    @Test
+    void testScoreIsProvisional() {
+        when(repository.findRiskAnalysesByCustomerId(eq(request.getCustomerId()), any(Pageable.class)))
+            .thenReturn(List.of());
+
+        RiskAnalysis result = engine.score(request);
+
+        assertNotNull(result.getAnalyzedAt());
+        assertTrue(result.isProvisional());
+        assertEquals(CustomerRiskType.NO_INFORMATION, result.getClassification());
+        assertEquals(1.0, meterRegistry.get("fraud.fallback.scored")
+            .tag("classification", "NO_INFORMATION").counter().count());
+    }
+
+    @Test
+    void testLatestHighRiskIsKept() {
+        assertEquals(CustomerRiskType.HIGH_RISK, engine.classify(
+            List.of(analysis(CustomerRiskType.HIGH_RISK), analysis(CustomerRiskType.PREFERRED)),
+            SalesChannel.BROKER, InsuranceCategory.LIFE));
+    }
+
+    @Test
+    void testPreferredHistoryIsCappedAtRegular() {
+        assertEquals(CustomerRiskType.REGULAR, engine.classify(
+            List.of(analysis(CustomerRiskType.PREFERRED), analysis(CustomerRiskType.PREFERRED)),
+            SalesChannel.BROKER, InsuranceCategory.LIFE));
+    }
+
+    @Test
+    void testFraudOccurrenceMakesCustomerHighRisk() {
+        assertEquals(CustomerRiskType.HIGH_RISK, engine.classify(
+            List.of(analysis(CustomerRiskType.REGULAR, "FRAUD")),
+            SalesChannel.CALL_CENTER, InsuranceCategory.LIFE));
+    }
+
+    @Test
+    void testChannelAndCategoryTipTheScore() {
+        List<RiskAnalysis> history = List.of(analysis(CustomerRiskType.REGULAR, "PAYMENT_ISSUES"));
+
+        assertEquals(CustomerRiskType.REGULAR,
+            engine.classify(history, SalesChannel.BROKER, InsuranceCategory.AUTO));
+        assertEquals(CustomerRiskType.HIGH_RISK,
+            engine.classify(history, SalesChannel.MOBILE, InsuranceCategory.AUTO));
+    }
+
+    private RiskAnalysis analysis(CustomerRiskType classification, String... occurrenceTypes) {
+        RiskAnalysis analysis = new RiskAnalysis();
+        analysis.setClassification(classification);
+        analysis.setAnalyzedAt(LocalDateTime.now().minusDays(1));
+        for (String type : occurrenceTypes) {
+            RiskOccurrence occurrence = new RiskOccurrence();
+            occurrence.setType(type);
+            occurrence.setDescription(type);
+            occurrence.setCreatedAt(LocalDateTime.now().minusDays(2));
+            occurrence.setUpdatedAt(LocalDateTime.now().minusDays(2));
+            analysis.addOccurrence(occurrence);
+        }
+        return analysis;
+    }
+}
@@ -0,0 +1,118 @@
+package com.insurance.service.underwriting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.insurance.domain.Money;
+import com.insurance.domain.enums.CustomerRiskType;
+import com.insurance.domain.enums.InsuranceCategory;
+import com.insurance.domain.enums.SalesChannel;
+import java.math.BigDecimal;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class UnderwritingRuleEngineTest {
+
+    private final UnderwritingRuleEngine engine = new UnderwritingRuleEngine();
+
+    @Test
+    void testDefaultLimits() {
+        assertLimit("500000.00", CustomerRiskType.REGULAR, InsuranceCategory.AUTO);
+        assertLimit("50000.00", CustomerRiskType.HIGH_RISK, InsuranceCategory.HEALTH);
+        assertLimit("1000000.00", CustomerRiskType.PREFERRED, InsuranceCategory.TRAVEL);
+        assertLimit("100000.00", CustomerRiskType.NO_INFORMATION, InsuranceCategory.LIFE);
+        assertLimit("50000.00", CustomerRiskType.NO_INFORMATION, InsuranceCategory.RESIDENTIAL);
+    }
+
+    @Test
+    void testPermitsIsInclusive() {
+        UnderwritingRule rule = engine.findRule(CustomerRiskType.REGULAR, InsuranceCategory.AUTO, SalesChannel.BANK);
+
+        assertTrue(rule.permits(Money.of(new BigDecimal("500000.00"))));
+        assertTrue(rule.permits(Money.of(new BigDecimal("500000"))));
+        assertFalse(rule.permits(Money.of(new BigDecimal("500000.01"))));
+    }
+
+    @Test
+    void testLookupReturnsSameRuleInstance() {
+        UnderwritingRule first = engine.findRule(CustomerRiskType.REGULAR, InsuranceCategory.AUTO, SalesChannel.BANK);
+        UnderwritingRule second = engine.findRule(CustomerRiskType.REGULAR, InsuranceCategory.AUTO, SalesChannel.BANK);
+
+        assertSame(first, second);
+    }
+
+    @Test
+    void testMostSpecificRuleWins() {
+        engine.reload(List.of(
+            new UnderwritingRule("auto", CustomerRiskType.REGULAR, InsuranceCategory.AUTO, null,
+                new BigDecimal("300000.00")),
+            new UnderwritingRule("auto-broker", CustomerRiskType.REGULAR, InsuranceCategory.AUTO,
+                SalesChannel.BROKER, new BigDecimal("400000.00")),
+            new UnderwritingRule("mobile", CustomerRiskType.REGULAR, null, SalesChannel.MOBILE,
+                new BigDecimal("200000.00"))
+        ));
+
+        assertEquals("auto-broker",
+            engine.findRule(CustomerRiskType.REGULAR, InsuranceCategory.AUTO, SalesChannel.BROKER).getId());
+        assertEquals("auto",
+            engine.findRule(CustomerRiskType.REGULAR, InsuranceCategory.AUTO, SalesChannel.MOBILE).getId());
+        assertEquals("mobile",
+            engine.findRule(CustomerRiskType.REGULAR, InsuranceCategory.LIFE, SalesChannel.MOBILE).getId());
+        assertEquals("default-regular",
+            engine.findRule(CustomerRiskType.REGULAR, InsuranceCategory.LIFE, SalesChannel.BANK).getId());
+    }
+
+    @Test
+    void testOverrideReplacesDefaultOfSameSpecificity() {
+        engine.reload(List.of(
+            new UnderwritingRule("regular", CustomerRiskType.REGULAR, null, null, new BigDecimal("600000.00"))
+        ));
+
+        assertLimit("600000.00", CustomerRiskType.REGULAR, InsuranceCategory.AUTO);
+    }
+
+    @Test
+    void testReloadWithoutOverridesRestoresDefaults() {
+        engine.reload(List.of(
+            new UnderwritingRule("regular", CustomerRiskType.REGULAR, null, null, new BigDecimal("600000.00"))
+        ));
+
+        engine.reload(List.of());
+
+        assertLimit("500000.00", CustomerRiskType.REGULAR, InsuranceCategory.AUTO);
+    }
+
+    @Test
+    void testAuditReasonNamesRule() {
+        UnderwritingRule rule = engine.findRule(CustomerRiskType.HIGH_RISK, InsuranceCategory.AUTO, SalesChannel.BANK);
+
+        assertEquals("Underwriting rule default-high-risk: max insured amount 50000.00", rule.getAuditReason());
+    }
+
+    @Test
+    void testMissingDimensionIsRejected() {
+        assertThrows(IllegalArgumentException.class, () ->
+            engine.findRule(CustomerRiskType.REGULAR, null, SalesChannel.BANK));
+    }
+
+    @Test
+    void testIncompleteRuleSetIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> UnderwritingRuleTable.of(List.of(
+            new UnderwritingRule("regular", CustomerRiskType.REGULAR, null, null, new BigDecimal("1.00")))));
+    }
+
+    @Test
+    void testInvalidRule() {
+        assertThrows(IllegalArgumentException.class, () ->
+            new UnderwritingRule("zero", CustomerRiskType.REGULAR, null, null, BigDecimal.ZERO));
+    }
+
+    private void assertLimit(String expected, CustomerRiskType riskType, InsuranceCategory category) {
+        for (SalesChannel channel : SalesChannel.values()) {
+            assertEquals(new BigDecimal(expected), engine.findRule(riskType, category, channel).getMaxInsuredAmount());
+        }
+    }
+}
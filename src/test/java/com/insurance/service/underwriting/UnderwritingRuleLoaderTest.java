@@ -0,0 +1,58 @@
+package com.insurance.service.underwriting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import com.insurance.domain.UnderwritingLimit;
+import com.insurance.domain.enums.CustomerRiskType;
+import com.insurance.domain.enums.InsuranceCategory;
+import com.insurance.domain.enums.SalesChannel;
+import com.insurance.repository.UnderwritingLimitRepository;
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class UnderwritingRuleLoaderTest {
+
+    @Mock
+    private UnderwritingLimitRepository repository;
+
+    @Spy
+    private UnderwritingRuleEngine engine = new UnderwritingRuleEngine();
+
+    @InjectMocks
+    private UnderwritingRuleLoader loader;
+
+    @Test
+    void testReloadAppliesActiveLimits() {
+        UnderwritingLimit limit = new UnderwritingLimit();
+        limit.setId(UUID.randomUUID());
+        limit.setRiskType(CustomerRiskType.HIGH_RISK);
+        limit.setCategory(InsuranceCategory.TRAVEL);
+        limit.setMaxInsuredAmount(new BigDecimal("20000.00"));
+        when(repository.findByActiveTrue()).thenReturn(List.of(limit));
+
+        loader.reload();
+
+        UnderwritingRule rule = engine.findRule(CustomerRiskType.HIGH_RISK, InsuranceCategory.TRAVEL, SalesChannel.WEBSITE);
+        assertEquals("limit-" + limit.getId(), rule.getId());
+        assertEquals(new BigDecimal("20000.00"), rule.getMaxInsuredAmount());
+    }
+
+    @Test
+    void testReloadFailureKeepsCurrentRules() {
+        when(repository.findByActiveTrue()).thenThrow(new IllegalStateException("database unavailable"));
+
+        loader.reload();
+
+        assertEquals("default-regular",
+            engine.findRule(CustomerRiskType.REGULAR, InsuranceCategory.AUTO, SalesChannel.BANK).getId());
+    }
+}